@@ -2,8 +2,11 @@ package edu.onu.ddechev.controllers;
 
 import edu.onu.ddechev.App;
 import edu.onu.ddechev.codecs.Codec;
+import edu.onu.ddechev.codecs.Raster;
+import edu.onu.ddechev.codecs.RasterFiles;
 import edu.onu.ddechev.utils.AnalysisResult;
 import edu.onu.ddechev.utils.CompressionAnalyzer;
+import edu.onu.ddechev.utils.RasterImages;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -17,10 +20,9 @@ import javafx.stage.FileChooser;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
 import java.net.URL;
 import java.util.List;
-import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.stream.Collectors;
 
@@ -58,7 +60,7 @@ public class PrimaryController implements Initializable {
             .filter(item -> item.getText().equals("Codec"))
             .forEach(item -> Codec.IMPLEMENTATIONS.stream()
                     .map(codec -> {
-                        RadioMenuItem menuItem = new RadioMenuItem(codec.getSimpleName());
+                        RadioMenuItem menuItem = new RadioMenuItem(codec.getName());
                         menuItem.setToggleGroup(toggleGroup);
                         menuItem.setOnAction(this::changeCodec);
                         return menuItem;
@@ -82,8 +84,9 @@ public class PrimaryController implements Initializable {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Open Image");
         fileChooser.getExtensionFilters().addAll(
-                new FileChooser.ExtensionFilter("All Images", "*.jpg", "*.png", "*.bmp"),
-                new FileChooser.ExtensionFilter("BMP", "*.bmp")
+                new FileChooser.ExtensionFilter("All Images", "*.jpg", "*.png", "*.bmp", "*.ppm", "*.pgm"),
+                new FileChooser.ExtensionFilter("BMP", "*.bmp"),
+                new FileChooser.ExtensionFilter("PPM", "*.ppm", "*.pgm")
         );
         file = fileChooser.showOpenDialog(App.getScene().getWindow());
         updateForm();
@@ -112,22 +115,35 @@ public class PrimaryController implements Initializable {
 
     private void updateForm() {
         if (file != null) {
-            Image image;
             try {
-                image = new Image(new FileInputStream(file));
-                showImage(originalImageView, image);
-                AnalysisResult analysisResult = CompressionAnalyzer.analyzeCompression(file, image, codec);
+                Raster raster;
+                if (isRasterFile(file)) {
+                    raster = RasterFiles.read(file.toPath());
+                    showImage(originalImageView, RasterImages.toImage(raster));
+                } else {
+                    Image image = new Image(new FileInputStream(file));
+                    raster = RasterImages.toRaster(image);
+                    showImage(originalImageView, image);
+                }
+                AnalysisResult analysisResult = CompressionAnalyzer.analyzeCompression(file, raster, codec);
                 showImage(restoredImageView, analysisResult.getRestoredImage());
                 populateTable(imagePropertiesTable, analysisResult.getImageProperties());
                 populateTable(compressionPropertiesTable, analysisResult.getCompressionProperties());
             } catch (FileNotFoundException e) {
                 showError(new IllegalStateException(String.format("File %s not found", file.getAbsolutePath()), e));
+            } catch (IOException e) {
+                showError(new IllegalStateException(String.format("File %s can not be read: %s", file.getAbsolutePath(), e.getMessage()), e));
             } catch (RuntimeException e) {
                 showError(e);
             }
         }
     }
 
+    private static boolean isRasterFile(File file) {
+        String name = file.getName().toLowerCase();
+        return name.endsWith(".bmp") || name.endsWith(".ppm") || name.endsWith(".pgm");
+    }
+
     @FXML
     private void close() {
         Platform.exit();
@@ -137,16 +153,10 @@ public class PrimaryController implements Initializable {
     private void changeCodec(ActionEvent event) {
         if (event.getSource() instanceof MenuItem) {
             MenuItem menuItem = (MenuItem) event.getSource();
-            Optional<Class<? extends Codec>> maybeCodecClass = Codec.IMPLEMENTATIONS.stream()
-                    .filter(codec -> codec.getSimpleName().equals(menuItem.getText()))
-                    .findFirst();
-            if (maybeCodecClass.isPresent()) {
-                try {
-                    codec = maybeCodecClass.get().getDeclaredConstructor().newInstance();
-                } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-                    showError(e);
-                }
-            }
+            Codec.IMPLEMENTATIONS.stream()
+                    .filter(codec -> codec.getName().equals(menuItem.getText()))
+                    .findFirst()
+                    .ifPresent(codec -> this.codec = codec);
             updateForm();
         }
     }
@@ -1,25 +1,24 @@
 package edu.onu.ddechev.utils;
 
 import edu.onu.ddechev.codecs.Codec;
-import javafx.scene.image.Image;
-import javafx.scene.image.PixelReader;
+import edu.onu.ddechev.codecs.CodecResult;
+import edu.onu.ddechev.codecs.Raster;
 
 import java.io.File;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.stream.IntStream;
 
 public class CompressionAnalyzer {
 
     private CompressionAnalyzer() {
     }
 
-    public static AnalysisResult analyzeCompression(File file, Image image, Codec codec) {
+    public static AnalysisResult analyzeCompression(File file, Raster raster, Codec codec) {
         AnalysisResult result = new AnalysisResult();
-        int size = getSize(image);
-        int width = getWidth(image);
-        int height = getHeight(image);
+        int size = raster.getData().length;
+        int width = raster.getWidth();
+        int height = raster.getHeight();
         int pixels = width * height;
         result.addImageProperty("path", file.getAbsolutePath());
         result.addImageProperty("file size, bytes", file.length());
@@ -27,46 +26,32 @@ public class CompressionAnalyzer {
         result.addImageProperty("height", height);
         result.addImageProperty("pixels", pixels);
         result.addImageProperty("size, bytes", size);
-        result.addImageProperty("colors", getColorsCount(image));
+        result.addImageProperty("colors", getColorsCount(raster));
         if (codec != null) {
-            ProfilingUtil.ProfilingResult<byte[]> compressionResult = ProfilingUtil.executionTime(() -> codec.compress(image));
-            byte[] compressed = compressionResult.getResult();
-            ProfilingUtil.ProfilingResult<Image> restoreResult = ProfilingUtil.executionTime(() -> codec.restoreImage(compressed));
+            ProfilingUtil.ProfilingResult<CodecResult> compressionResult = ProfilingUtil.executionTime(() -> codec.compress(raster));
+            byte[] compressed = compressionResult.getResult().getData();
+            ProfilingUtil.ProfilingResult<Raster> restoreResult = ProfilingUtil.executionTime(() -> codec.restoreRaster(compressed));
             int compressedSize = compressed.length - Codec.HEADER_SIZE;
-            result.addCompressionProperty("algorithm", codec.getClass().getSimpleName());
+            result.addCompressionProperty("algorithm", codec.getName());
             result.addCompressionProperty("compression time, ms", compressionResult.getExecutionTime());
             result.addCompressionProperty("restore time, ms", restoreResult.getExecutionTime());
             result.addCompressionProperty("compression Mpx/s", Math.round(pixels / compressionResult.getExecutionTime() / 10) / 100.0);
             result.addCompressionProperty("restore Mpx/s", Math.round(pixels / restoreResult.getExecutionTime() / 10) / 100.0);
             result.addCompressionProperty("size, bytes", compressedSize);
             result.addCompressionProperty("ratio", Math.round(Integer.valueOf(size).doubleValue() / compressedSize * 100) / 100.0);
-            new TreeMap<>(codec.getLastCompressionProperties()).forEach(result::addCompressionProperty);
-            result.setRestoredImage(restoreResult.getResult());
+            new TreeMap<>(compressionResult.getResult().getStats().getProperties()).forEach(result::addCompressionProperty);
+            result.setRestoredImage(RasterImages.toImage(restoreResult.getResult()));
             result.setCompressedData(compressed);
         }
         return result;
     }
 
-    private static int getWidth(Image image) {
-        return Double.valueOf(image.getWidth()).intValue();
-    }
-
-    private static int getHeight(Image image) {
-        return Double.valueOf(image.getHeight()).intValue();
-    }
-
-    private static int getSize(Image image) {
-        return getWidth(image) * getHeight(image) * 3;
-    }
-
-    private static int getColorsCount(Image image) {
-        PixelReader pixelReader = image.getPixelReader();
+    private static int getColorsCount(Raster raster) {
+        byte[] data = raster.getData();
         Set<Integer> colors = new HashSet<>();
-        IntStream.range(0, getHeight(image)).forEach(y ->
-                IntStream.range(0, getWidth(image)).forEach(x -> {
-                    colors.add(pixelReader.getArgb(x, y));
-                })
-        );
+        for (int i = 0; i < data.length; i += 3) {
+            colors.add((data[i] & 0xFF) << 16 | (data[i + 1] & 0xFF) << 8 | data[i + 2] & 0xFF);
+        }
         return colors.size();
     }
 }
@@ -0,0 +1,38 @@
+package edu.onu.ddechev.utils;
+
+import edu.onu.ddechev.codecs.Raster;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritablePixelFormat;
+
+/**
+ * Conversions between JavaFX images and RGB rasters consumed by codecs.
+ */
+public class RasterImages {
+
+    private RasterImages() {
+    }
+
+    public static Raster toRaster(Image image) {
+        int width = Double.valueOf(image.getWidth()).intValue();
+        int height = Double.valueOf(image.getHeight()).intValue();
+        Raster raster = new Raster(width, height, Raster.RGB);
+        int[] pixels = new int[width * height];
+        image.getPixelReader().getPixels(0, 0, width, height, WritablePixelFormat.getIntArgbInstance(), pixels, 0, width);
+        byte[] data = raster.getData();
+        for (int i = 0; i < pixels.length; i++) {
+            data[i * 3] = (byte) (pixels[i] >> 16);
+            data[i * 3 + 1] = (byte) (pixels[i] >> 8);
+            data[i * 3 + 2] = (byte) pixels[i];
+        }
+        return raster;
+    }
+
+    public static Image toImage(Raster raster) {
+        WritableImage image = new WritableImage(raster.getWidth(), raster.getHeight());
+        image.getPixelWriter().setPixels(0, 0, raster.getWidth(), raster.getHeight(), PixelFormat.getByteRgbInstance(),
+                raster.getData(), 0, raster.getRowSize());
+        return image;
+    }
+}
@@ -1,4 +1,5 @@
 module edu.onu.ddechev {
+    requires edu.onu.ddechev.codecs;
     requires javafx.controls;
     requires javafx.fxml;
 
@@ -8,6 +9,5 @@ module edu.onu.ddechev {
 
     exports edu.onu.ddechev;
     exports edu.onu.ddechev.controllers;
-    exports edu.onu.ddechev.codecs;
     exports edu.onu.ddechev.utils;
-}
\ No newline at end of file
+}
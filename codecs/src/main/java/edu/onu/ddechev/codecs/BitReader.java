@@ -0,0 +1,76 @@
+package edu.onu.ddechev.codecs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * MSB-first bit reader backed by a 64-bit buffer. Bits past the end of the input are read as zeros.
+ */
+class BitReader {
+
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final byte[] data;
+    private final int limit;
+    private int position;
+    private long buffer;
+    private int count;
+
+    BitReader(ByteBuffer source) {
+        this(source.array(), source.arrayOffset() + source.position(), source.remaining());
+    }
+
+    BitReader(byte[] data, int offset, int length) {
+        this.data = data;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Tops the buffer up to at least 57 bits unless the input is exhausted.
+     */
+    void refill() {
+        if (count > 56) {
+            return;
+        }
+        if (limit - position >= 8) {
+            buffer |= (long) LONG_BE.get(data, position) >>> count;
+            int bytes = (64 - count) >>> 3;
+            position += bytes;
+            count += bytes << 3;
+        } else {
+            while (count <= 56 && position < limit) {
+                buffer |= (data[position++] & 0xFFL) << (56 - count);
+                count += 8;
+            }
+        }
+    }
+
+    /**
+     * Returns next {@code bits} (1..32) bits without consuming them.
+     */
+    int peek(int bits) {
+        return (int) (buffer >>> (64 - bits));
+    }
+
+    void skip(int bits) {
+        buffer <<= bits;
+        count -= bits;
+    }
+
+    int read(int bits) {
+        refill();
+        int value = peek(bits);
+        skip(bits);
+        return value;
+    }
+
+    /**
+     * Number of input bits not consumed yet, negative if more bits were consumed than the input holds.
+     */
+    long remaining() {
+        return count + 8L * (limit - position);
+    }
+}
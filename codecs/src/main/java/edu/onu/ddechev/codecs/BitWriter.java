@@ -0,0 +1,73 @@
+package edu.onu.ddechev.codecs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * MSB-first bit writer into a preallocated array. Bits are collected in a 64-bit accumulator
+ * which is flushed as a whole word while the array has room for it.
+ */
+class BitWriter {
+
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final byte[] data;
+    private int position;
+    private long buffer;
+    private int count;
+
+    BitWriter(byte[] data, int offset) {
+        this.data = data;
+        this.position = offset;
+    }
+
+    /**
+     * Writes low {@code bits} (1..32) bits of the value.
+     */
+    void write(int value, int bits) {
+        long masked = value & ((1L << bits) - 1);
+        int free = 64 - count;
+        if (bits < free) {
+            buffer |= masked << (free - bits);
+            count += bits;
+        } else {
+            int rest = bits - free;
+            buffer |= masked >>> rest;
+            flushWord();
+            buffer = rest == 0 ? 0 : masked << (64 - rest);
+            count = rest;
+        }
+    }
+
+    private void flushWord() {
+        if (data.length - position >= 8) {
+            LONG_BE.set(data, position, buffer);
+            position += 8;
+        } else {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                data[position++] = (byte) (buffer >>> shift);
+            }
+        }
+    }
+
+    /**
+     * Writes out buffered bits, the last byte is padded with zeros.
+     * @return position after the last written byte
+     */
+    int flush() {
+        for (int shift = 56; count > 0; shift -= 8, count -= 8) {
+            data[position++] = (byte) (buffer >>> shift);
+        }
+        buffer = 0;
+        count = 0;
+        return position;
+    }
+
+    /**
+     * Number of bytes needed to hold {@code bits} bits.
+     */
+    static int size(long bits) {
+        return Math.toIntExact((bits + 7) / 8);
+    }
+}
@@ -0,0 +1,110 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Canonical Huffman codec which splits data into blocks with own code tables, so every part of the image
+ * gets a table fitted to its content. Blocks are coded and restored in parallel on the common ForkJoinPool.
+ * A block which does not shrink is stored as is.
+ * <p>
+ * Stream layout: data length, block size, blocks count (int each), compressed size of every block (int each), blocks.
+ * Block layout: mode byte, then raw bytes for a stored block or lengths header and bitstream for a coded one.
+ */
+public class BlockHuffman extends CanonicalHuffman {
+
+    static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+    static final int MIN_BLOCK_SIZE = 1024;
+    static final int MAX_BLOCK_SIZE = 16 * 1024 * 1024;
+    private static final int STORED = 0;
+    private static final int CODED = 1;
+
+    private final int blockSize;
+
+    public BlockHuffman() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public BlockHuffman(int blockSize) {
+        this(blockSize, DEFAULT_MAX_CODE_LENGTH);
+    }
+
+    public BlockHuffman(int blockSize, int maxCodeLength) {
+        super(maxCodeLength);
+        if (blockSize < MIN_BLOCK_SIZE || blockSize > MAX_BLOCK_SIZE) {
+            throw new InvalidParameterException(String.format("Block size should be in range [%d, %d]", MIN_BLOCK_SIZE, MAX_BLOCK_SIZE));
+        }
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) {
+        int count = (data.length + blockSize - 1) / blockSize;
+        byte[][] blocks = IntStream.range(0, count).parallel()
+                .mapToObj(i -> compressBlock(data, i * blockSize, Math.min(data.length, (i + 1) * blockSize)))
+                .toArray(byte[][]::new);
+        int indexSize = (3 + count) * Integer.BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(indexSize + Arrays.stream(blocks).mapToInt(block -> block.length).sum());
+        buffer.putInt(data.length).putInt(blockSize).putInt(count);
+        for (byte[] block : blocks) {
+            buffer.putInt(block.length);
+        }
+        for (byte[] block : blocks) {
+            buffer.put(block);
+        }
+        return new CodecResult(buffer.array(), new CompressionStats(Map.of(
+                "block size, bytes", blockSize,
+                "blocks count", count,
+                "stored blocks count", (int) Arrays.stream(blocks).filter(block -> block[0] == STORED).count(),
+                "block index size, bytes", indexSize
+        )));
+    }
+
+    private byte[] compressBlock(byte[] data, int from, int to) {
+        int[] frequencies = getFrequencyTable(data, from, to);
+        int[] lengths = getCodeLengths(frequencies, maxCodeLength);
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.write(CODED);
+        writeLengths(header, lengths);
+        if (header.size() + BitWriter.size(getBitsCount(frequencies, lengths)) >= 1 + to - from) {
+            byte[] stored = new byte[1 + to - from];
+            stored[0] = STORED;
+            System.arraycopy(data, from, stored, 1, to - from);
+            return stored;
+        }
+        return encode(header.toByteArray(), data, from, to, frequencies, lengths);
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        ByteBuffer buffer = ByteBuffer.wrap(compressed);
+        int length = buffer.getInt();
+        int blockSize = buffer.getInt();
+        int count = buffer.getInt();
+        int[] offsets = new int[count + 1];
+        offsets[0] = buffer.position() + count * Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            offsets[i + 1] = offsets[i] + buffer.getInt();
+        }
+        byte[] restored = new byte[length];
+        IntStream.range(0, count).parallel().forEach(i ->
+                restoreBlock(compressed, offsets[i], offsets[i + 1], restored, i * blockSize, Math.min(length, (i + 1) * blockSize))
+        );
+        return restored;
+    }
+
+    private static void restoreBlock(byte[] compressed, int from, int to, byte[] restored, int offset, int end) {
+        if (compressed[from] == STORED) {
+            System.arraycopy(compressed, from + 1, restored, offset, end - offset);
+        } else {
+            ByteBuffer buffer = ByteBuffer.wrap(compressed, from + 1, to - from - 1);
+            int[] lengths = readLengths(buffer);
+            HuffmanDecoder decoder = new HuffmanDecoder(canonicalCodes(lengths), lengths);
+            decoder.decode(compressed, buffer.position(), to, restored, offset, end - offset);
+        }
+    }
+}
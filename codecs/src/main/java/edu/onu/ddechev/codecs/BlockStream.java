@@ -0,0 +1,103 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Streaming compression with bounded memory: input is cut into blocks which are compressed by the codec one at a time.
+ * <p>
+ * Stream layout: for every block its length and compressed length (int each) followed by compressed block,
+ * a block of zero length terminates the stream.
+ */
+final class BlockStream {
+
+    static final int BLOCK_SIZE = 3 << 20;
+    private static final int BLOCK_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private BlockStream() {
+    }
+
+    /**
+     * Compresses input in blocks of whole rows of the given width taking up to {@value BLOCK_SIZE} bytes,
+     * plain data without rows (width 0) is cut into blocks of {@value BLOCK_SIZE} bytes.
+     */
+    static CompressionStats compress(Codec codec, ReadableByteChannel input, WritableByteChannel output, int width) throws IOException {
+        int rowSize = width * 3;
+        int blockSize = rowSize == 0 ? BLOCK_SIZE : Math.max(1, BLOCK_SIZE / rowSize) * rowSize;
+        ByteBuffer block = ByteBuffer.allocate(blockSize);
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+        long length = 0;
+        long compressedLength = 0;
+        int blocksCount = 0;
+        while (read(input, block.clear()) > 0) {
+            byte[] data = block.position() == blockSize ? block.array() : Arrays.copyOf(block.array(), block.position());
+            if (rowSize > 0 && data.length % rowSize != 0) {
+                throw new IOException(String.format("Input is not a whole number of rows of %d pixels", width));
+            }
+            byte[] compressed = rowSize == 0 ? codec.compress(data).getData() : codec.compress(data, width).getData();
+            write(output, header.clear().putInt(data.length).putInt(compressed.length).flip());
+            write(output, ByteBuffer.wrap(compressed));
+            length += data.length;
+            compressedLength += BLOCK_HEADER_SIZE + compressed.length;
+            blocksCount++;
+        }
+        write(output, header.clear().putInt(0).putInt(0).flip());
+        return new CompressionStats(Map.of(
+                "block size, bytes", blockSize,
+                "blocks count", blocksCount,
+                "data size, bytes", length,
+                "compressed size, bytes", compressedLength + BLOCK_HEADER_SIZE
+        ));
+    }
+
+    static void restore(Codec codec, ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+        byte[] restored = new byte[0];
+        while (true) {
+            readFully(input, header.clear());
+            int length = header.getInt(0);
+            int compressedLength = header.getInt(Integer.BYTES);
+            if (length == 0) {
+                return;
+            }
+            if (length < 0 || compressedLength < 0) {
+                throw new IOException(String.format("Invalid block of %d bytes compressed to %d bytes", length, compressedLength));
+            }
+            ByteBuffer compressed = ByteBuffer.allocate(compressedLength);
+            readFully(input, compressed);
+            if (restored.length != length) {
+                restored = new byte[length];
+            }
+            codec.restore(compressed.array(), restored);
+            write(output, ByteBuffer.wrap(restored));
+        }
+    }
+
+    /**
+     * Fills the buffer until it is full or input ends, returns number of bytes read.
+     */
+    private static int read(ReadableByteChannel input, ByteBuffer buffer) throws IOException {
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = input.read(buffer);
+        }
+        return buffer.position();
+    }
+
+    private static void readFully(ReadableByteChannel input, ByteBuffer buffer) throws IOException {
+        if (read(input, buffer) < buffer.limit()) {
+            throw new EOFException("Compressed stream is truncated");
+        }
+    }
+
+    private static void write(WritableByteChannel output, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            output.write(buffer);
+        }
+    }
+}
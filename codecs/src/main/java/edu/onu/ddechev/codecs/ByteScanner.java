@@ -0,0 +1,58 @@
+package edu.onu.ddechev.codecs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Word-at-a-time (SWAR) byte comparisons: eight bytes are compared per step using big-endian {@code long} views,
+ * so the position of the first differing or equal byte is found from the leading zeros of the combined word.
+ */
+final class ByteScanner {
+
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    private ByteScanner() {
+    }
+
+    /**
+     * Length of the common prefix of the ranges starting at {@code first} and {@code second}, at most {@code limit}.
+     * Ranges may overlap, both should have {@code limit} bytes available.
+     */
+    static int matchLength(byte[] data, int first, int second, int limit) {
+        int length = 0;
+        while (length + Long.BYTES <= limit) {
+            long difference = (long) LONG_BE.get(data, first + length) ^ (long) LONG_BE.get(data, second + length);
+            if (difference != 0) {
+                return length + (Long.numberOfLeadingZeros(difference) >>> 3);
+            }
+            length += Long.BYTES;
+        }
+        while (length < limit && data[first + length] == data[second + length]) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * First position {@code i} in {@code [from, to)} where {@code data[i] == data[i + distance]}, or {@code to} if there is none.
+     * Bytes up to {@code to + distance} should be available.
+     */
+    static int findRepeat(byte[] data, int from, int to, int distance) {
+        int index = from;
+        while (index + Long.BYTES <= to) {
+            long difference = (long) LONG_BE.get(data, index) ^ (long) LONG_BE.get(data, index + distance);
+            // high bit is set exactly in zero bytes of the difference
+            long zeros = ~(((difference & LOW_BITS) + LOW_BITS) | difference | LOW_BITS);
+            if (zeros != 0) {
+                return index + (Long.numberOfLeadingZeros(zeros) >>> 3);
+            }
+            index += Long.BYTES;
+        }
+        while (index < to && data[index] != data[index + distance]) {
+            index++;
+        }
+        return index;
+    }
+}
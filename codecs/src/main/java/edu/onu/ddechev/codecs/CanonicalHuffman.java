@@ -0,0 +1,120 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Huffman codec with canonical codes. Stream header keeps only code lengths of all 256 symbols,
+ * either packed into nibbles or run-length coded, whatever is shorter. Both sides rebuild the codes from lengths.
+ * <p>
+ * Stream layout: symbols count (int), lengths header, bitstream.
+ */
+public class CanonicalHuffman extends Huffman {
+
+    private static final int SYMBOLS = 256;
+    private static final int PACKED = 0;
+    private static final int RUNS = 1;
+
+    public CanonicalHuffman() {
+        super();
+    }
+
+    public CanonicalHuffman(int maxCodeLength) {
+        super(maxCodeLength);
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) throws IOException {
+        int[] frequencies = getFrequencyTable(data);
+        int[] lengths = getCodeLengths(frequencies, maxCodeLength);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new DataOutputStream(stream).writeInt(data.length);
+        writeLengths(stream, lengths);
+        return new CodecResult(encode(stream.toByteArray(), data, frequencies, lengths), getStats(lengths, stream.size()));
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        ByteBuffer buffer = ByteBuffer.wrap(compressed);
+        int count = buffer.getInt();
+        int[] lengths = readLengths(buffer);
+        byte[] restored = new byte[count];
+        if (count > 0) {
+            HuffmanDecoder decoder = new HuffmanDecoder(canonicalCodes(lengths), lengths);
+            decoder.decode(compressed, buffer.position(), compressed.length, restored, 0, count);
+        }
+        return restored;
+    }
+
+    static void writeLengths(ByteArrayOutputStream stream, int[] lengths) {
+        ByteArrayOutputStream runs = new ByteArrayOutputStream();
+        int symbol = 0;
+        while (symbol < SYMBOLS) {
+            int run = 1;
+            while (symbol + run < SYMBOLS && lengths[symbol + run] == lengths[symbol] && run < 256) {
+                run++;
+            }
+            runs.write(run - 1);
+            runs.write(lengths[symbol]);
+            symbol += run;
+        }
+        boolean packable = Arrays.stream(lengths).allMatch(length -> length < 16);
+        if (packable && runs.size() > SYMBOLS / 2) {
+            stream.write(PACKED);
+            for (int i = 0; i < SYMBOLS; i += 2) {
+                stream.write(lengths[i] << 4 | lengths[i + 1]);
+            }
+        } else {
+            stream.write(RUNS);
+            stream.writeBytes(runs.toByteArray());
+        }
+    }
+
+    static int[] readLengths(ByteBuffer buffer) {
+        int[] lengths = new int[SYMBOLS];
+        int mode = buffer.get();
+        if (mode == PACKED) {
+            for (int i = 0; i < SYMBOLS; i += 2) {
+                int packed = Byte.toUnsignedInt(buffer.get());
+                lengths[i] = packed >> 4;
+                lengths[i + 1] = packed & 0x0F;
+            }
+        } else if (mode == RUNS) {
+            int symbol = 0;
+            while (symbol < SYMBOLS) {
+                int run = Byte.toUnsignedInt(buffer.get()) + 1;
+                int length = Byte.toUnsignedInt(buffer.get());
+                if (symbol + run > SYMBOLS) {
+                    throw new IllegalStateException(String.format("Code lengths run of %d symbols past the alphabet", run));
+                }
+                Arrays.fill(lengths, symbol, symbol + run, length);
+                symbol += run;
+            }
+        } else {
+            throw new IllegalStateException(String.format("Unknown code lengths mode %d", mode));
+        }
+        checkKraft(lengths);
+        return lengths;
+    }
+
+    /**
+     * Checks that the lengths satisfy the Kraft inequality, so codes of an over-subscribed set do not overlap
+     * in the decoder table. Free codes are counted level by level, capped at the alphabet size.
+     */
+    private static void checkKraft(int[] lengths) {
+        int[] lengthCount = new int[256];
+        for (int length : lengths) {
+            lengthCount[length]++;
+        }
+        int free = 1;
+        for (int length = 1; length < lengthCount.length; length++) {
+            free = Math.min(free * 2, SYMBOLS) - lengthCount[length];
+            if (free < 0) {
+                throw new IllegalStateException("Code lengths are over-subscribed");
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.InvalidParameterException;
+import java.util.List;
+
+public interface Codec {
+
+    /**
+     * Registered codecs. Codecs keep no per-call state, so a single instance may be shared between threads.
+     */
+    List<Codec> IMPLEMENTATIONS = List.of(new NoOp(), new RLE(), new LZW(), new LZ77(), new Huffman(), new CanonicalHuffman(), new InterleavedHuffman(), new BlockHuffman(),
+            new StripedContainer(new LZW()), new StripedContainer(new CanonicalHuffman()),
+            new TiledContainer(new LZW()), Pipeline.of(new RLE(), new CanonicalHuffman()), Pipeline.of(new LZW(), new CanonicalHuffman()),
+            Pipeline.of(new PredictiveFilter(), new CanonicalHuffman()), Pipeline.of(new PredictiveFilter(), new LZW()),
+            Pipeline.of(new ColorTransform(ColorTransform.Transform.YCOCG_R), new PredictiveFilter(), new CanonicalHuffman()),
+            Pipeline.of(new ColorTransform(ColorTransform.Transform.SUBTRACT_GREEN), new PredictiveFilter(), new LZW()),
+            Pipeline.of(new LZ77(), new CanonicalHuffman()));
+
+    Integer HEADER_SIZE = 2 * Integer.BYTES;
+
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Compresses an RGB raster, the result starts with a header holding raster dimensions.
+     */
+    default CodecResult compress(Raster raster) {
+        if (raster.getChannels() != Raster.RGB) {
+            throw new InvalidParameterException(String.format("Only RGB rasters are supported, got %d channels", raster.getChannels()));
+        }
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try {
+            stream.write(ByteBuffer.allocate(HEADER_SIZE).putInt(raster.getWidth()).putInt(raster.getHeight()).array());
+            CodecResult result = compress(raster.getData(), raster.getWidth());
+            stream.write(result.getData());
+            return new CodecResult(stream.toByteArray(), result.getStats());
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Compression error %s", e));
+        }
+    }
+
+    CodecResult compress(byte[] data) throws IOException;
+
+    /**
+     * Compresses interleaved RGB data of an image with rows of the given width. Codecs which do not care about rows
+     * compress it as plain data.
+     */
+    default CodecResult compress(byte[] data, int width) throws IOException {
+        return compress(data);
+    }
+
+    default Raster restoreRaster(byte[] compressed) {
+        ByteBuffer buffer = ByteBuffer.wrap(compressed);
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        buffer = buffer.slice();
+        byte[] compressedData = new byte[buffer.limit()];
+        buffer.get(compressedData);
+        try {
+            Raster raster = new Raster(width, height, Raster.RGB);
+            restore(compressedData, raster.getData());
+            return raster;
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Restoration error %s", e));
+        }
+    }
+
+    byte[] restore(byte[] compressed) throws IOException;
+
+    /**
+     * Compresses a stream of unlimited length keeping only one block of {@value BlockStream#BLOCK_SIZE} bytes
+     * and its compressed form in memory.
+     */
+    default CompressionStats compress(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        return BlockStream.compress(this, input, output, 0);
+    }
+
+    /**
+     * Compresses a stream of interleaved RGB rows of the given width, every block holds whole rows.
+     */
+    default CompressionStats compress(ReadableByteChannel input, WritableByteChannel output, int width) throws IOException {
+        return BlockStream.compress(this, input, output, width);
+    }
+
+    /**
+     * Restores a stream produced by {@link #compress(ReadableByteChannel, WritableByteChannel)}.
+     */
+    default void restore(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        BlockStream.restore(this, input, output);
+    }
+
+    /**
+     * Restores data into a caller supplied buffer which has exactly the size of the restored data.
+     */
+    default void restore(byte[] compressed, byte[] restored) throws IOException {
+        System.arraycopy(restore(compressed), 0, restored, 0, restored.length);
+    }
+
+}
@@ -0,0 +1,240 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Self-describing versioned stream: data is cut into chunks of whole rows compressed independently by a codec
+ * identified through {@link CodecRegistry}, every chunk is protected by CRC32C. Streams are restored without
+ * knowing the codec and verified without decoding.
+ * <p>
+ * Stream layout (big-endian):
+ * <ul>
+ *     <li>header: magic, version (byte), flags (byte), codec id, width, height (int each);</li>
+ *     <li>compressed chunks;</li>
+ *     <li>directory: length, compressed length and CRC32C of compressed bytes of every chunk (int each);</li>
+ *     <li>trailer: directory offset, chunks count, CRC32C of header and directory, magic (int each).</li>
+ * </ul>
+ * Plain data is stored with zero width and height and without {@link #FLAG_IMAGE}.
+ */
+public final class CodecContainer {
+
+    public static final int MAGIC = 0x49434C43;
+    public static final byte VERSION = 1;
+    public static final byte FLAG_IMAGE = 1;
+
+    static final int CHUNK_SIZE = 1 << 20;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES + 2;
+    private static final int ENTRY_SIZE = 3 * Integer.BYTES;
+    private static final int TRAILER_SIZE = 4 * Integer.BYTES;
+
+    private CodecContainer() {
+    }
+
+    public static CodecResult compress(Codec codec, Raster raster) {
+        if (raster.getChannels() != Raster.RGB) {
+            throw new InvalidParameterException(String.format("Only RGB rasters are supported, got %d channels", raster.getChannels()));
+        }
+        return compress(codec, raster.getData(), raster.getWidth(), raster.getHeight(), FLAG_IMAGE);
+    }
+
+    public static CodecResult compress(Codec codec, byte[] data) {
+        return compress(codec, data, 0, 0, (byte) 0);
+    }
+
+    private static CodecResult compress(Codec codec, byte[] data, int width, int height, byte flags) {
+        int id = CodecRegistry.getId(codec);
+        int rowSize = width * 3;
+        int chunkSize = rowSize == 0 ? CHUNK_SIZE : Math.max(1, CHUNK_SIZE / rowSize) * rowSize;
+        int count = (data.length + chunkSize - 1) / chunkSize;
+        byte[][] chunks = IntStream.range(0, count).parallel()
+                .mapToObj(i -> compressChunk(codec, data, i * chunkSize, Math.min(data.length, (i + 1) * chunkSize), width))
+                .toArray(byte[][]::new);
+        int size = HEADER_SIZE + count * ENTRY_SIZE + TRAILER_SIZE;
+        for (byte[] chunk : chunks) {
+            size += chunk.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).put(VERSION).put(flags).putInt(id).putInt(width).putInt(height);
+        for (byte[] chunk : chunks) {
+            buffer.put(chunk);
+        }
+        int directoryOffset = buffer.position();
+        CRC32C crc = new CRC32C();
+        for (int i = 0; i < count; i++) {
+            crc.reset();
+            crc.update(chunks[i]);
+            buffer.putInt(Math.min(chunkSize, data.length - i * chunkSize)).putInt(chunks[i].length).putInt((int) crc.getValue());
+        }
+        crc.reset();
+        crc.update(buffer.array(), 0, HEADER_SIZE);
+        crc.update(buffer.array(), directoryOffset, buffer.position() - directoryOffset);
+        buffer.putInt(directoryOffset).putInt(count).putInt((int) crc.getValue()).putInt(MAGIC);
+        return new CodecResult(buffer.array(), new CompressionStats(Map.of(
+                "codec", codec.getName(),
+                "codec id", id,
+                "chunk size, bytes", chunkSize,
+                "chunks count", count,
+                "directory size, bytes", count * ENTRY_SIZE + TRAILER_SIZE
+        )));
+    }
+
+    private static byte[] compressChunk(Codec codec, byte[] data, int from, int to, int width) {
+        byte[] chunk = new byte[to - from];
+        System.arraycopy(data, from, chunk, 0, chunk.length);
+        try {
+            return width == 0 ? codec.compress(chunk).getData() : codec.compress(chunk, width).getData();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the codec which produced the stream, only the header is read.
+     */
+    public static Codec getCodec(ByteBuffer compressed) throws IOException {
+        return new Directory(compressed, false).codec;
+    }
+
+    /**
+     * Checks the structure and checksums of the stream without decoding it.
+     */
+    public static void verify(ByteBuffer compressed) throws IOException {
+        Directory directory = new Directory(compressed, true);
+        for (int i = 0; i < directory.count; i++) {
+            directory.verifyChunk(i);
+        }
+    }
+
+    public static Raster restoreRaster(byte[] compressed) throws IOException {
+        Directory directory = new Directory(ByteBuffer.wrap(compressed), true);
+        if ((directory.flags & FLAG_IMAGE) == 0) {
+            throw new IOException("Stream holds plain data instead of an image");
+        }
+        Raster raster = new Raster(directory.width, directory.height, Raster.RGB);
+        directory.restore(raster.getData());
+        return raster;
+    }
+
+    public static byte[] restore(byte[] compressed) throws IOException {
+        Directory directory = new Directory(ByteBuffer.wrap(compressed), true);
+        byte[] restored = new byte[Math.toIntExact(directory.length)];
+        directory.restore(restored);
+        return restored;
+    }
+
+    private static class Directory {
+        private final ByteBuffer buffer;
+        private final byte flags;
+        private final Codec codec;
+        private final int width;
+        private final int height;
+        private int count;
+        private int[] lengths;
+        private int[] offsets;
+        private int[] checksums;
+        private long length;
+
+        Directory(ByteBuffer compressed, boolean readChunks) throws IOException {
+            buffer = compressed.slice();
+            if (buffer.limit() < HEADER_SIZE + TRAILER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a compressed container");
+            }
+            if (buffer.get(Integer.BYTES) != VERSION) {
+                throw new IOException(String.format("Unsupported container version %d", buffer.get(Integer.BYTES)));
+            }
+            flags = buffer.get(Integer.BYTES + 1);
+            int id = buffer.getInt(Integer.BYTES + 2);
+            codec = CodecRegistry.getCodec(id).orElseThrow(() -> new IOException(String.format("Unknown codec id %d", id)));
+            width = buffer.getInt(2 * Integer.BYTES + 2);
+            height = buffer.getInt(3 * Integer.BYTES + 2);
+            if (readChunks) {
+                readDirectory();
+            }
+        }
+
+        private void readDirectory() throws IOException {
+            int trailer = buffer.limit() - TRAILER_SIZE;
+            int directoryOffset = buffer.getInt(trailer);
+            count = buffer.getInt(trailer + Integer.BYTES);
+            if (buffer.getInt(trailer + 3 * Integer.BYTES) != MAGIC || count < 0 || directoryOffset < HEADER_SIZE
+                    || (long) directoryOffset + (long) count * ENTRY_SIZE != trailer) {
+                throw new IOException("Container directory is corrupted");
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.duplicate().limit(HEADER_SIZE));
+            crc.update(buffer.duplicate().position(directoryOffset).limit(trailer));
+            if ((int) crc.getValue() != buffer.getInt(trailer + 2 * Integer.BYTES)) {
+                throw new IOException("Container header or directory checksum mismatch");
+            }
+            lengths = new int[count];
+            offsets = new int[count + 1];
+            checksums = new int[count];
+            offsets[0] = HEADER_SIZE;
+            for (int i = 0; i < count; i++) {
+                int entry = directoryOffset + i * ENTRY_SIZE;
+                lengths[i] = buffer.getInt(entry);
+                int compressedLength = buffer.getInt(entry + Integer.BYTES);
+                if (lengths[i] < 0 || compressedLength < 0 || offsets[i] + compressedLength > directoryOffset) {
+                    throw new IOException(String.format("Container directory entry %d is corrupted", i));
+                }
+                offsets[i + 1] = offsets[i] + compressedLength;
+                checksums[i] = buffer.getInt(entry + 2 * Integer.BYTES);
+                length += lengths[i];
+            }
+            if (offsets[count] != directoryOffset) {
+                throw new IOException("Container directory does not match chunks");
+            }
+        }
+
+        void verifyChunk(int i) throws IOException {
+            if (checksum(offsets[i], offsets[i + 1] - offsets[i]) != checksums[i]) {
+                throw new IOException(String.format("Checksum mismatch in chunk %d", i));
+            }
+        }
+
+        /**
+         * Returns compressed bytes of the chunk verifying its checksum.
+         */
+        byte[] chunk(int i) throws IOException {
+            verifyChunk(i);
+            byte[] chunk = new byte[offsets[i + 1] - offsets[i]];
+            buffer.duplicate().position(offsets[i]).get(chunk);
+            return chunk;
+        }
+
+        void restore(byte[] restored) throws IOException {
+            if (length != restored.length) {
+                throw new IOException(String.format("Container holds %d bytes instead of %d", length, restored.length));
+            }
+            int[] positions = new int[count];
+            for (int i = 1; i < count; i++) {
+                positions[i] = positions[i - 1] + lengths[i - 1];
+            }
+            try {
+                IntStream.range(0, count).parallel().forEach(i -> {
+                    try {
+                        byte[] chunk = new byte[lengths[i]];
+                        codec.restore(chunk(i), chunk);
+                        System.arraycopy(chunk, 0, restored, positions[i], chunk.length);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        private int checksum(int offset, int length) {
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.duplicate().position(offset).limit(offset + length));
+            return (int) crc.getValue();
+        }
+    }
+}
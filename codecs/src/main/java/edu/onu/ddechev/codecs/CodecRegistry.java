@@ -0,0 +1,85 @@
+package edu.onu.ddechev.codecs;
+
+import java.security.InvalidParameterException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stable numeric identifiers of codecs stored in {@link CodecContainer} streams. Codecs are identified by name,
+ * codec parameters (code lengths, modes, strip rows, tile size) are kept in the codec stream itself, so any
+ * instance with the registered name restores it.
+ * <p>
+ * Containers get identifier {@code containerId << 8 | codecId} of the wrapped codec. All pipelines share one
+ * identifier since pipeline streams record their stages.
+ * <p>
+ * Identifiers are written into streams, so they are fixed constants and never reused.
+ */
+public final class CodecRegistry {
+
+    static final int NO_OP_ID = 1;
+    static final int RLE_ID = 2;
+    static final int LZW_ID = 3;
+    static final int HUFFMAN_ID = 4;
+    static final int CANONICAL_HUFFMAN_ID = 5;
+    static final int INTERLEAVED_HUFFMAN_ID = 6;
+    static final int BLOCK_HUFFMAN_ID = 7;
+    static final int PREDICTIVE_FILTER_ID = 8;
+    static final int YCOCG_R_ID = 9;
+    static final int SUBTRACT_GREEN_ID = 10;
+    static final int LZ77_ID = 11;
+    static final int STRIPED = 1;
+    static final int TILED = 2;
+    static final int PIPELINE_ID = 3 << 8;
+
+    private static final Map<Integer, Codec> CODECS = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+
+    static {
+        registerWithContainers(NO_OP_ID, new NoOp());
+        registerWithContainers(RLE_ID, new RLE());
+        registerWithContainers(LZW_ID, new LZW());
+        registerWithContainers(HUFFMAN_ID, new Huffman());
+        registerWithContainers(CANONICAL_HUFFMAN_ID, new CanonicalHuffman());
+        registerWithContainers(INTERLEAVED_HUFFMAN_ID, new InterleavedHuffman());
+        registerWithContainers(BLOCK_HUFFMAN_ID, new BlockHuffman());
+        register(PREDICTIVE_FILTER_ID, new PredictiveFilter());
+        register(YCOCG_R_ID, new ColorTransform(ColorTransform.Transform.YCOCG_R));
+        register(SUBTRACT_GREEN_ID, new ColorTransform(ColorTransform.Transform.SUBTRACT_GREEN));
+        registerWithContainers(LZ77_ID, new LZ77());
+        CODECS.put(PIPELINE_ID, new Pipeline(List.of()));
+    }
+
+    private static void registerWithContainers(int id, Codec codec) {
+        register(id, codec);
+        register(STRIPED << 8 | id, new StripedContainer(codec));
+        register(TILED << 8 | id, new TiledContainer(codec));
+    }
+
+    private CodecRegistry() {
+    }
+
+    public static synchronized void register(int id, Codec codec) {
+        if (CODECS.containsKey(id) || IDS.containsKey(codec.getName())) {
+            throw new InvalidParameterException(String.format("Codec %s with id %d is already registered", codec.getName(), id));
+        }
+        CODECS.put(id, codec);
+        IDS.put(codec.getName(), id);
+    }
+
+    public static int getId(Codec codec) {
+        if (codec instanceof Pipeline) {
+            return PIPELINE_ID;
+        }
+        Integer id = IDS.get(codec.getName());
+        if (id == null) {
+            throw new InvalidParameterException(String.format("Codec %s is not registered", codec.getName()));
+        }
+        return id;
+    }
+
+    public static Optional<Codec> getCodec(int id) {
+        return Optional.ofNullable(CODECS.get(id));
+    }
+}
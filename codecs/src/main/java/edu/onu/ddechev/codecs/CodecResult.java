@@ -0,0 +1,23 @@
+package edu.onu.ddechev.codecs;
+
+/**
+ * Compressed payload together with the properties of the call which produced it.
+ */
+public final class CodecResult {
+
+    private final byte[] data;
+    private final CompressionStats stats;
+
+    public CodecResult(byte[] data, CompressionStats stats) {
+        this.data = data;
+        this.stats = stats;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public CompressionStats getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,105 @@
+package edu.onu.ddechev.codecs;
+
+import java.util.Map;
+
+/**
+ * Reversible decorrelation of RGB channels in a single pass over pixels. Output has the same size and pixel layout
+ * as input, so the stage is meant to be followed by other codecs in a {@link Pipeline}. Bytes after the last whole
+ * pixel are kept as is.
+ * <p>
+ * All steps are lifting steps modulo 256, so channel differences stay bytes and the transform is exactly reversible.
+ */
+public class ColorTransform implements PixelTransform {
+
+    public enum Transform {
+        /**
+         * Co = R - B, t = B + Co / 2, Cg = G - t, Y = t + Cg / 2, stored as Y, Co, Cg.
+         */
+        YCOCG_R("YCoCg-R"),
+        /**
+         * R - G, G, B - G.
+         */
+        SUBTRACT_GREEN("SubtractGreen");
+
+        private final String name;
+
+        Transform(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final int PIXEL_SIZE = 3;
+
+    private final Transform transform;
+
+    public ColorTransform(Transform transform) {
+        this.transform = transform;
+    }
+
+    @Override
+    public String getName() {
+        return transform.name;
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) {
+        byte[] transformed = new byte[data.length];
+        int end = data.length - data.length % PIXEL_SIZE;
+        if (transform == Transform.YCOCG_R) {
+            for (int i = 0; i < end; i += PIXEL_SIZE) {
+                int r = data[i];
+                int g = data[i + 1];
+                int b = data[i + 2];
+                byte co = (byte) (r - b);
+                byte t = (byte) (b + (co >> 1));
+                byte cg = (byte) (g - t);
+                transformed[i] = (byte) (t + (cg >> 1));
+                transformed[i + 1] = co;
+                transformed[i + 2] = cg;
+            }
+        } else {
+            for (int i = 0; i < end; i += PIXEL_SIZE) {
+                byte g = data[i + 1];
+                transformed[i] = (byte) (data[i] - g);
+                transformed[i + 1] = g;
+                transformed[i + 2] = (byte) (data[i + 2] - g);
+            }
+        }
+        System.arraycopy(data, end, transformed, end, data.length - end);
+        return new CodecResult(transformed, new CompressionStats(Map.of("transform", getName())));
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        byte[] restored = new byte[compressed.length];
+        restore(compressed, restored);
+        return restored;
+    }
+
+    @Override
+    public void restore(byte[] compressed, byte[] restored) {
+        if (compressed.length != restored.length) {
+            throw new IllegalStateException(String.format("Restored data has %d bytes instead of %d", compressed.length, restored.length));
+        }
+        int end = compressed.length - compressed.length % PIXEL_SIZE;
+        if (transform == Transform.YCOCG_R) {
+            for (int i = 0; i < end; i += PIXEL_SIZE) {
+                byte co = compressed[i + 1];
+                byte cg = compressed[i + 2];
+                byte t = (byte) (compressed[i] - (cg >> 1));
+                byte b = (byte) (t - (co >> 1));
+                restored[i] = (byte) (b + co);
+                restored[i + 1] = (byte) (cg + t);
+                restored[i + 2] = b;
+            }
+        } else {
+            for (int i = 0; i < end; i += PIXEL_SIZE) {
+                byte g = compressed[i + 1];
+                restored[i] = (byte) (compressed[i] + g);
+                restored[i + 1] = g;
+                restored[i + 2] = (byte) (compressed[i + 2] + g);
+            }
+        }
+        System.arraycopy(compressed, end, restored, end, compressed.length - end);
+    }
+}
@@ -0,0 +1,30 @@
+package edu.onu.ddechev.codecs;
+
+import java.util.Map;
+
+/**
+ * Immutable properties of a single compression call.
+ */
+public final class CompressionStats {
+
+    public static final CompressionStats EMPTY = new CompressionStats(Map.of());
+
+    private final Map<String, Object> properties;
+
+    public CompressionStats(Map<String, Object> properties) {
+        this.properties = Map.copyOf(properties);
+    }
+
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    public Object get(String name) {
+        return properties.get(name);
+    }
+
+    @Override
+    public String toString() {
+        return properties.toString();
+    }
+}
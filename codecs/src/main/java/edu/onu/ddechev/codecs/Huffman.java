@@ -0,0 +1,267 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.*;
+import java.util.stream.IntStream;
+
+public class Huffman implements Codec {
+
+    static final int DEFAULT_MAX_CODE_LENGTH = 15;
+    static final int MIN_CODE_LENGTH = 8;
+    static final int MAX_CODE_LENGTH = 31;
+
+    protected final int maxCodeLength;
+
+    public Huffman() {
+        this(DEFAULT_MAX_CODE_LENGTH);
+    }
+
+    public Huffman(int maxCodeLength) {
+        if (maxCodeLength < MIN_CODE_LENGTH || maxCodeLength > MAX_CODE_LENGTH) {
+            throw new InvalidParameterException(String.format("Code length should be in range [%d, %d]", MIN_CODE_LENGTH, MAX_CODE_LENGTH));
+        }
+        this.maxCodeLength = maxCodeLength;
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) throws IOException {
+        int[] frequencies = getFrequencyTable(data);
+        int[] lengths = getCodeLengths(frequencies, maxCodeLength);
+        byte[] header = writeDict(data.length, lengths);
+        return new CodecResult(encode(header, data, frequencies, lengths), getStats(lengths, header.length));
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        ByteBuffer buffer = ByteBuffer.wrap(compressed);
+        int count = buffer.getInt();
+        if (count == 0) {
+            return new byte[0];
+        }
+        return restore(buffer, readDict(buffer), count);
+    }
+
+    /**
+     * Writes header followed by the data coded with canonical codes of given lengths into an exactly sized array.
+     */
+    static byte[] encode(byte[] header, byte[] data, int[] frequencies, int[] lengths) {
+        return encode(header, data, 0, data.length, frequencies, lengths);
+    }
+
+    static byte[] encode(byte[] header, byte[] data, int from, int to, int[] frequencies, int[] lengths) {
+        int[] codes = canonicalCodes(lengths);
+        byte[] compressed = new byte[header.length + BitWriter.size(getBitsCount(frequencies, lengths))];
+        System.arraycopy(header, 0, compressed, 0, header.length);
+        BitWriter writer = new BitWriter(compressed, header.length);
+        for (int i = from; i < to; i++) {
+            int symbol = data[i] & 0xFF;
+            writer.write(codes[symbol], lengths[symbol]);
+        }
+        writer.flush();
+        return compressed;
+    }
+
+    static long getBitsCount(int[] frequencies, int[] lengths) {
+        long bits = 0;
+        for (int symbol = 0; symbol < frequencies.length; symbol++) {
+            bits += (long) frequencies[symbol] * lengths[symbol];
+        }
+        return bits;
+    }
+
+    /**
+     * Writes symbols count followed by the dictionary, the count tells the decoder where the padding bits start.
+     */
+    private static byte[] writeDict(int count, int[] lengths) throws IOException {
+        int[] codes = canonicalCodes(lengths);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        DataOutputStream dataOutputStream = new DataOutputStream(stream);
+        dataOutputStream.writeInt(count);
+        dataOutputStream.writeByte((int) Arrays.stream(lengths).filter(length -> length > 0).count() - 1);
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            if (lengths[symbol] > 0) {
+                dataOutputStream.writeByte(symbol);
+                dataOutputStream.writeByte(lengths[symbol]);
+                dataOutputStream.writeInt(codes[symbol]);
+            }
+        }
+        return stream.toByteArray();
+    }
+
+    static int[] getFrequencyTable(byte[] data) {
+        return getFrequencyTable(data, 0, data.length);
+    }
+
+    static int[] getFrequencyTable(byte[] data, int from, int to) {
+        int[] frequencies = new int[256];
+        for (int i = from; i < to; i++) {
+            frequencies[data[i] & 0xFF]++;
+        }
+        return frequencies;
+    }
+
+    /**
+     * Optimal code lengths not longer than {@code maxLength}, built with the package-merge algorithm.
+     * Level 0 holds the leaves, every next level merges the leaves with pairs (packages) of the previous level items.
+     * Code length of a symbol is the number of its occurrences among the first 2n-2 items of the last level.
+     */
+    static int[] getCodeLengths(int[] frequencies, int maxLength) {
+        int[] lengths = new int[frequencies.length];
+        int[] symbols = IntStream.range(0, frequencies.length)
+                .filter(symbol -> frequencies[symbol] > 0)
+                .boxed()
+                .sorted(Comparator.comparingInt(symbol -> frequencies[symbol]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        int n = symbols.length;
+        if (n < 2) {
+            if (n == 1) {
+                lengths[symbols[0]] = 1;
+            }
+            return lengths;
+        }
+        if (n > 1L << maxLength) {
+            throw new IllegalStateException(String.format("%d symbols do not fit into %d bit codes", n, maxLength));
+        }
+        long[][] weights = new long[maxLength][];
+        int[][] children = new int[maxLength][];
+        weights[0] = new long[n];
+        children[0] = new int[n];
+        for (int i = 0; i < n; i++) {
+            weights[0][i] = frequencies[symbols[i]];
+            children[0][i] = -i - 1;
+        }
+        for (int level = 1; level < maxLength; level++) {
+            long[] previous = weights[level - 1];
+            int packages = previous.length / 2;
+            weights[level] = new long[n + packages];
+            children[level] = new int[n + packages];
+            int leaf = 0;
+            int pack = 0;
+            for (int i = 0; i < n + packages; i++) {
+                long packWeight = pack < packages ? previous[2 * pack] + previous[2 * pack + 1] : Long.MAX_VALUE;
+                if (leaf < n && weights[0][leaf] <= packWeight) {
+                    weights[level][i] = weights[0][leaf];
+                    children[level][i] = -leaf - 1;
+                    leaf++;
+                } else {
+                    weights[level][i] = packWeight;
+                    children[level][i] = 2 * pack;
+                    pack++;
+                }
+            }
+        }
+        for (int i = 0; i < 2 * n - 2; i++) {
+            countLengths(children, maxLength - 1, i, symbols, lengths);
+        }
+        return lengths;
+    }
+
+    private static void countLengths(int[][] children, int level, int index, int[] symbols, int[] lengths) {
+        int child = children[level][index];
+        if (child < 0) {
+            lengths[symbols[-child - 1]]++;
+        } else {
+            countLengths(children, level - 1, child, symbols, lengths);
+            countLengths(children, level - 1, child + 1, symbols, lengths);
+        }
+    }
+
+    /**
+     * Assigns canonical codes: shorter codes first, codes of the same length in the symbol order.
+     */
+    static int[] canonicalCodes(int[] lengths) {
+        int maxLength = Arrays.stream(lengths).max().orElse(0);
+        int[] lengthCount = new int[maxLength + 1];
+        for (int length : lengths) {
+            if (length > 0) {
+                lengthCount[length]++;
+            }
+        }
+        int[] nextCode = new int[maxLength + 1];
+        int code = 0;
+        for (int length = 1; length <= maxLength; length++) {
+            code = (code + lengthCount[length - 1]) << 1;
+            nextCode[length] = code;
+        }
+        int[] codes = new int[lengths.length];
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            if (lengths[symbol] > 0) {
+                codes[symbol] = nextCode[lengths[symbol]]++;
+            }
+        }
+        return codes;
+    }
+
+    byte[] restore(ByteBuffer compressed, Map<CodeValue, Byte> dict, int len) {
+        int[] codes = new int[256];
+        int[] lengths = new int[256];
+        dict.forEach((code, b) -> {
+            codes[Byte.toUnsignedInt(b)] = code.value;
+            lengths[Byte.toUnsignedInt(b)] = code.length;
+        });
+        HuffmanDecoder decoder = new HuffmanDecoder(codes, lengths);
+        byte[] restored = new byte[len];
+        int count = decoder.decode(new BitReader(compressed), restored, 0, len);
+        if (count != len) {
+            throw new IllegalStateException(String.format("Restored %d symbols instead of %d", count, len));
+        }
+        return restored;
+    }
+
+    static Map<CodeValue, Byte> readDict(ByteBuffer compressed) {
+        int dictLength = Byte.toUnsignedInt(compressed.get()) + 1;
+        Map<CodeValue, Byte> dict = new HashMap<>(dictLength);
+        for (int i = 0; i < dictLength; i++) {
+            byte b = compressed.get();
+            int codeLength = compressed.get();
+            int codeValue = compressed.getInt();
+            dict.put(new CodeValue(codeValue, codeLength), b);
+        }
+        return dict;
+    }
+
+    static CompressionStats getStats(int[] lengths, int headerSize) {
+        return new CompressionStats(Map.of(
+                "dict length", Arrays.stream(lengths).filter(length -> length > 0).count(),
+                "dict size, bytes", headerSize,
+                "shortest code", Arrays.stream(lengths).filter(length -> length > 0).min().orElse(-1),
+                "longest code", Arrays.stream(lengths).max().orElse(-1)
+        ));
+    }
+
+    static class CodeValue {
+        private final int value;
+        private final int length;
+
+        public CodeValue(int value, int length) {
+            this.value = value;
+            this.length = length;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CodeValue codeValue = (CodeValue) o;
+            return value == codeValue.value && length == codeValue.length;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value, length);
+        }
+
+        @Override
+        public String toString() {
+            String code = Integer.toBinaryString(value);
+            String withLeadingZeros = String.format(String.format("%%%ds", length), code).replace(' ', '0');
+            return withLeadingZeros.substring(withLeadingZeros.length() - length);
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,257 @@
+package edu.onu.ddechev.codecs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Table-driven prefix code decoder.
+ * Primary table is indexed by the next {@value PRIMARY_BITS} bits of the stream, codes longer than that
+ * continue in subtables linked from the primary entries, so a typical symbol costs a single lookup.
+ * <p>
+ * Entry layout: bits 0..5 - code length consumed on this level (leaf) or index width of the subtable (link),
+ * bit 7 - link flag, bits 8.. - symbol (leaf) or subtable offset (link). Zero entry marks an unused code.
+ */
+class HuffmanDecoder {
+
+    static final int PRIMARY_BITS = 10;
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final int LINK = 1 << 7;
+    private static final int BITS_MASK = 0x3F;
+
+    private final int primaryBits;
+    private int[] table;
+    private int size;
+
+    HuffmanDecoder(int[] codes, int[] lengths) {
+        List<Integer> symbols = new ArrayList<>();
+        int maxLength = 0;
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            if (lengths[symbol] > 0) {
+                if (lengths[symbol] > 31) {
+                    throw new IllegalStateException(String.format("Code length %d is not supported", lengths[symbol]));
+                }
+                symbols.add(symbol);
+                maxLength = Math.max(maxLength, lengths[symbol]);
+            }
+        }
+        if (symbols.isEmpty()) {
+            throw new IllegalStateException("Empty code table");
+        }
+        primaryBits = Math.min(PRIMARY_BITS, maxLength);
+        table = new int[1 << (primaryBits + 1)];
+        fill(allocate(primaryBits), primaryBits, symbols, 0, codes, lengths);
+        table = Arrays.copyOf(table, size);
+    }
+
+    private int allocate(int bits) {
+        int offset = size;
+        size += 1 << bits;
+        if (size > table.length) {
+            table = Arrays.copyOf(table, Math.max(size, table.length * 2));
+        }
+        return offset;
+    }
+
+    private void fill(int offset, int bits, List<Integer> symbols, int consumed, int[] codes, int[] lengths) {
+        Map<Integer, List<Integer>> groups = new TreeMap<>();
+        for (int symbol : symbols) {
+            int rest = lengths[symbol] - consumed;
+            if (rest <= bits) {
+                int index = (codes[symbol] & ((1 << rest) - 1)) << (bits - rest);
+                Arrays.fill(table, offset + index, offset + index + (1 << (bits - rest)), symbol << 8 | rest);
+            } else {
+                int index = (codes[symbol] >>> (rest - bits)) & ((1 << bits) - 1);
+                groups.computeIfAbsent(index, i -> new ArrayList<>()).add(symbol);
+            }
+        }
+        for (Map.Entry<Integer, List<Integer>> group : groups.entrySet()) {
+            int maxRest = group.getValue().stream().mapToInt(s -> lengths[s] - consumed - bits).max().orElse(1);
+            int subBits = Math.min(maxRest, PRIMARY_BITS);
+            int subOffset = allocate(subBits);
+            table[offset + group.getKey()] = subOffset << 8 | LINK | subBits;
+            fill(subOffset, subBits, group.getValue(), consumed + bits, codes, lengths);
+        }
+    }
+
+    int decode(BitReader reader) {
+        reader.refill();
+        int bits = primaryBits;
+        int entry = table[reader.peek(bits)];
+        while ((entry & LINK) != 0) {
+            reader.skip(bits);
+            bits = entry & BITS_MASK;
+            entry = table[(entry >>> 8) + reader.peek(bits)];
+        }
+        if (entry == 0) {
+            throw new IllegalStateException("Invalid Huffman code");
+        }
+        reader.skip(entry & BITS_MASK);
+        return entry >>> 8;
+    }
+
+    /**
+     * Decodes up to {@code count} symbols, stops earlier if the input runs out.
+     * @return number of decoded symbols
+     */
+    int decode(BitReader reader, byte[] restored, int offset, int count) {
+        int decoded = 0;
+        while (decoded < count && reader.remaining() > 0) {
+            byte symbol = (byte) decode(reader);
+            if (reader.remaining() < 0) {
+                break;
+            }
+            restored[offset + decoded++] = symbol;
+        }
+        return decoded;
+    }
+
+    /**
+     * Decodes exactly {@code count} symbols from a stream occupying bytes {@code from} until {@code to}.
+     * Bit buffer is kept in locals while whole words can be read, the tail is finished with {@link BitReader}.
+     */
+    void decode(byte[] data, int from, int to, byte[] restored, int offset, int count) {
+        int[] table = this.table;
+        int primaryBits = this.primaryBits;
+        int position = from;
+        int end = to - 8;
+        long buffer = 0;
+        int bitsCount = 0;
+        int index = offset;
+        int limit = offset + count;
+        while (index < limit && position <= end) {
+            buffer |= (long) LONG_BE.get(data, position) >>> bitsCount;
+            position += (63 - bitsCount) >>> 3;
+            bitsCount |= 56;
+            int bits = primaryBits;
+            int entry = table[(int) (buffer >>> -bits)];
+            while ((entry & LINK) != 0) {
+                buffer <<= bits;
+                bitsCount -= bits;
+                bits = entry & BITS_MASK;
+                entry = table[(entry >>> 8) + (int) (buffer >>> -bits)];
+            }
+            if (entry == 0) {
+                throw new IllegalStateException("Invalid Huffman code");
+            }
+            buffer <<= entry & BITS_MASK;
+            bitsCount -= entry & BITS_MASK;
+            restored[index++] = (byte) (entry >>> 8);
+        }
+        BitReader reader = tail(data, position, bitsCount, to);
+        while (index < limit) {
+            restored[index++] = (byte) decode(reader);
+        }
+        if (reader.remaining() < 0) {
+            throw new IllegalStateException("Unexpected end of Huffman stream");
+        }
+    }
+
+    /**
+     * Decodes {@code count} symbols interleaved over four independent streams: symbol {@code i} comes from stream {@code i % 4},
+     * stream {@code k} occupies bytes {@code offsets[k]} until {@code offsets[k + 1]}.
+     * Bit buffers of the streams are kept in locals, so their dependency chains overlap. Tail of the streams,
+     * where whole words can not be read anymore, is finished with {@link BitReader}s.
+     */
+    void decode(byte[] data, int[] offsets, byte[] restored, int count) {
+        int[] table = this.table;
+        int primaryBits = this.primaryBits;
+        int p0 = offsets[0], p1 = offsets[1], p2 = offsets[2], p3 = offsets[3];
+        int end0 = offsets[1] - 8, end1 = offsets[2] - 8, end2 = offsets[3] - 8, end3 = offsets[4] - 8;
+        long b0 = 0, b1 = 0, b2 = 0, b3 = 0;
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        int index = 0;
+        while (index + 4 <= count && p0 <= end0 && p1 <= end1 && p2 <= end2 && p3 <= end3) {
+            b0 |= (long) LONG_BE.get(data, p0) >>> c0;
+            p0 += (63 - c0) >>> 3;
+            c0 |= 56;
+            b1 |= (long) LONG_BE.get(data, p1) >>> c1;
+            p1 += (63 - c1) >>> 3;
+            c1 |= 56;
+            b2 |= (long) LONG_BE.get(data, p2) >>> c2;
+            p2 += (63 - c2) >>> 3;
+            c2 |= 56;
+            b3 |= (long) LONG_BE.get(data, p3) >>> c3;
+            p3 += (63 - c3) >>> 3;
+            c3 |= 56;
+
+            int bits0 = primaryBits, bits1 = primaryBits, bits2 = primaryBits, bits3 = primaryBits;
+            int e0 = table[(int) (b0 >>> -bits0)];
+            int e1 = table[(int) (b1 >>> -bits1)];
+            int e2 = table[(int) (b2 >>> -bits2)];
+            int e3 = table[(int) (b3 >>> -bits3)];
+            while ((e0 & LINK) != 0) {
+                b0 <<= bits0;
+                c0 -= bits0;
+                bits0 = e0 & BITS_MASK;
+                e0 = table[(e0 >>> 8) + (int) (b0 >>> -bits0)];
+            }
+            while ((e1 & LINK) != 0) {
+                b1 <<= bits1;
+                c1 -= bits1;
+                bits1 = e1 & BITS_MASK;
+                e1 = table[(e1 >>> 8) + (int) (b1 >>> -bits1)];
+            }
+            while ((e2 & LINK) != 0) {
+                b2 <<= bits2;
+                c2 -= bits2;
+                bits2 = e2 & BITS_MASK;
+                e2 = table[(e2 >>> 8) + (int) (b2 >>> -bits2)];
+            }
+            while ((e3 & LINK) != 0) {
+                b3 <<= bits3;
+                c3 -= bits3;
+                bits3 = e3 & BITS_MASK;
+                e3 = table[(e3 >>> 8) + (int) (b3 >>> -bits3)];
+            }
+            if (e0 == 0 || e1 == 0 || e2 == 0 || e3 == 0) {
+                throw new IllegalStateException("Invalid Huffman code");
+            }
+            b0 <<= e0 & BITS_MASK;
+            c0 -= e0 & BITS_MASK;
+            b1 <<= e1 & BITS_MASK;
+            c1 -= e1 & BITS_MASK;
+            b2 <<= e2 & BITS_MASK;
+            c2 -= e2 & BITS_MASK;
+            b3 <<= e3 & BITS_MASK;
+            c3 -= e3 & BITS_MASK;
+            restored[index] = (byte) (e0 >>> 8);
+            restored[index + 1] = (byte) (e1 >>> 8);
+            restored[index + 2] = (byte) (e2 >>> 8);
+            restored[index + 3] = (byte) (e3 >>> 8);
+            index += 4;
+        }
+        BitReader[] readers = {
+                tail(data, p0, c0, offsets[1]),
+                tail(data, p1, c1, offsets[2]),
+                tail(data, p2, c2, offsets[3]),
+                tail(data, p3, c3, offsets[4])
+        };
+        for (; index < count; index++) {
+            restored[index] = (byte) decode(readers[index & 3]);
+        }
+        for (BitReader reader : readers) {
+            if (reader.remaining() < 0) {
+                throw new IllegalStateException("Unexpected end of Huffman stream");
+            }
+        }
+    }
+
+    /**
+     * Reader positioned at the first bit not consumed from a local bit buffer holding {@code count} bits read up to {@code position}.
+     */
+    private static BitReader tail(byte[] data, int position, int count, int limit) {
+        int start = position - (count + 7) / 8;
+        BitReader reader = new BitReader(data, start, limit - start);
+        int skip = (8 - count % 8) % 8;
+        if (skip > 0) {
+            reader.read(skip);
+        }
+        return reader;
+    }
+}
@@ -0,0 +1,100 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Canonical Huffman codec which spreads symbols over {@value STREAMS} independently bit-packed streams
+ * sharing one code table: symbol {@code i} goes to stream {@code i % 4}. Decoder advances all streams per iteration.
+ * <p>
+ * Stream layout: symbols count (int), lengths header, sizes of the first three streams (int each), streams.
+ */
+public class InterleavedHuffman extends CanonicalHuffman {
+
+    static final int STREAMS = 4;
+
+    public InterleavedHuffman() {
+        super();
+    }
+
+    public InterleavedHuffman(int maxCodeLength) {
+        super(maxCodeLength);
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) throws IOException {
+        int[][] streamFrequencies = new int[STREAMS][256];
+        for (int i = 0; i < data.length; i++) {
+            streamFrequencies[i & 3][data[i] & 0xFF]++;
+        }
+        int[] frequencies = new int[256];
+        for (int i = 0; i < STREAMS; i++) {
+            for (int symbol = 0; symbol < frequencies.length; symbol++) {
+                frequencies[symbol] += streamFrequencies[i][symbol];
+            }
+        }
+        int[] lengths = getCodeLengths(frequencies, maxCodeLength);
+        int[] codes = canonicalCodes(lengths);
+        int[] sizes = new int[STREAMS];
+        for (int i = 0; i < STREAMS; i++) {
+            sizes[i] = BitWriter.size(getBitsCount(streamFrequencies[i], lengths));
+        }
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        DataOutputStream dataOutputStream = new DataOutputStream(stream);
+        dataOutputStream.writeInt(data.length);
+        writeLengths(stream, lengths);
+        for (int i = 0; i < STREAMS - 1; i++) {
+            dataOutputStream.writeInt(sizes[i]);
+        }
+        int headerSize = stream.size();
+
+        byte[] compressed = new byte[headerSize + sizes[0] + sizes[1] + sizes[2] + sizes[3]];
+        System.arraycopy(stream.toByteArray(), 0, compressed, 0, headerSize);
+        BitWriter writer0 = new BitWriter(compressed, headerSize);
+        BitWriter writer1 = new BitWriter(compressed, headerSize + sizes[0]);
+        BitWriter writer2 = new BitWriter(compressed, headerSize + sizes[0] + sizes[1]);
+        BitWriter writer3 = new BitWriter(compressed, headerSize + sizes[0] + sizes[1] + sizes[2]);
+        BitWriter[] writers = {writer0, writer1, writer2, writer3};
+        int index = 0;
+        for (; index + 4 <= data.length; index += 4) {
+            int symbol0 = data[index] & 0xFF;
+            int symbol1 = data[index + 1] & 0xFF;
+            int symbol2 = data[index + 2] & 0xFF;
+            int symbol3 = data[index + 3] & 0xFF;
+            writer0.write(codes[symbol0], lengths[symbol0]);
+            writer1.write(codes[symbol1], lengths[symbol1]);
+            writer2.write(codes[symbol2], lengths[symbol2]);
+            writer3.write(codes[symbol3], lengths[symbol3]);
+        }
+        for (; index < data.length; index++) {
+            int symbol = data[index] & 0xFF;
+            writers[index & 3].write(codes[symbol], lengths[symbol]);
+        }
+        for (BitWriter writer : writers) {
+            writer.flush();
+        }
+        return new CodecResult(compressed, getStats(lengths, headerSize));
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        ByteBuffer buffer = ByteBuffer.wrap(compressed);
+        int count = buffer.getInt();
+        int[] lengths = readLengths(buffer);
+        int[] offsets = new int[STREAMS + 1];
+        offsets[0] = buffer.position() + (STREAMS - 1) * Integer.BYTES;
+        for (int i = 1; i < STREAMS; i++) {
+            offsets[i] = offsets[i - 1] + buffer.getInt();
+        }
+        offsets[STREAMS] = compressed.length;
+        byte[] restored = new byte[count];
+        if (count > 0) {
+            HuffmanDecoder decoder = new HuffmanDecoder(canonicalCodes(lengths), lengths);
+            decoder.decode(compressed, offsets, restored, count);
+        }
+        return restored;
+    }
+}
@@ -0,0 +1,228 @@
+package edu.onu.ddechev.codecs;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Sliding window LZ77 codec with a hash chain match finder. Positions are hashed by their first {@value MIN_MATCH}
+ * bytes, every hash keeps a chain of previous positions within the window of {@value WINDOW_SIZE} bytes.
+ * Levels trade speed for ratio: higher levels walk longer chains, accept longer matches before stopping the search
+ * and starting from level {@value LAZY_LEVEL} use lazy matching, a match is postponed when the next position
+ * has a longer one.
+ * <p>
+ * Stream layout: data length (varint), then sequences of a token byte, literals and a match. Token holds literals
+ * count and match length minus {@value MIN_MATCH} in the high and low nibbles, value 15 in a nibble is continued
+ * with a varint. Literals are followed by match distance minus one (varint), the last sequence has literals only.
+ */
+public class LZ77 implements Codec {
+
+    static final int MIN_MATCH = 4;
+    static final int WINDOW_SIZE = 1 << 20;
+    static final int MIN_LEVEL = 1;
+    static final int MAX_LEVEL = 9;
+    static final int DEFAULT_LEVEL = 6;
+    static final int LAZY_LEVEL = 4;
+    private static final int HASH_BITS = 16;
+    private static final int NIBBLE = 15;
+    private static final int[] CHAIN_LENGTHS = {4, 8, 16, 16, 32, 128, 256, 1024, 4096};
+    private static final int[] NICE_LENGTHS = {16, 32, 64, 64, 128, 256, 512, 2048, 8192};
+
+    private final int level;
+
+    public LZ77() {
+        this(DEFAULT_LEVEL);
+    }
+
+    public LZ77(int level) {
+        if (level < MIN_LEVEL || level > MAX_LEVEL) {
+            throw new InvalidParameterException(String.format("Level should be in range [%d, %d]", MIN_LEVEL, MAX_LEVEL));
+        }
+        this.level = level;
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) {
+        Encoder encoder = new Encoder(data, CHAIN_LENGTHS[level - 1], NICE_LENGTHS[level - 1], level >= LAZY_LEVEL);
+        byte[] compressed = encoder.encode();
+        return new CodecResult(compressed, new CompressionStats(Map.of(
+                "level", level,
+                "window size, bytes", WINDOW_SIZE,
+                "matches count", encoder.matchesCount,
+                "literals count", encoder.literalsCount,
+                "longest match", encoder.longestMatch,
+                "average match length", encoder.matchesCount == 0 ? 0 : (data.length - encoder.literalsCount) / encoder.matchesCount
+        )));
+    }
+
+    private static class Encoder {
+        private final byte[] data;
+        private final int maxChain;
+        private final int niceLength;
+        private final boolean lazy;
+        private final int[] head = new int[1 << HASH_BITS];
+        /**
+         * Previous position with the same hash, indexed by position modulo the window or the data length if it is shorter.
+         */
+        private final int[] previous;
+        private final int previousMask;
+        private final byte[] compressed;
+        private int position;
+        private int inserted;
+        private int matchLength;
+        private int matchDistance;
+        private int matchesCount;
+        private int literalsCount;
+        private int longestMatch;
+
+        Encoder(byte[] data, int maxChain, int niceLength, boolean lazy) {
+            this.data = data;
+            this.maxChain = maxChain;
+            this.niceLength = niceLength;
+            this.lazy = lazy;
+            previous = new int[Math.min(WINDOW_SIZE, Integer.highestOneBit(Math.max(1, data.length - 1)) << 1)];
+            previousMask = previous.length - 1;
+            compressed = new byte[data.length + data.length / 16 + 16];
+            Arrays.fill(head, -1);
+        }
+
+        byte[] encode() {
+            position = RLE.writeVarint(compressed, 0, data.length);
+            int anchor = 0;
+            int i = 0;
+            int last = data.length - MIN_MATCH;
+            while (i <= last) {
+                findMatch(i);
+                if (matchLength < MIN_MATCH) {
+                    i++;
+                    continue;
+                }
+                while (lazy && matchLength < niceLength && i + 1 <= last) {
+                    int length = matchLength;
+                    int distance = matchDistance;
+                    findMatch(i + 1);
+                    if (matchLength <= length) {
+                        matchLength = length;
+                        matchDistance = distance;
+                        break;
+                    }
+                    i++;
+                }
+                writeSequence(anchor, i - anchor, matchLength, matchDistance);
+                i += matchLength;
+                anchor = i;
+            }
+            writeSequence(anchor, data.length - anchor, 0, 0);
+            return Arrays.copyOf(compressed, position);
+        }
+
+        /**
+         * Finds the longest match for {@code at} among earlier positions, all positions before it are hashed first.
+         */
+        private void findMatch(int at) {
+            while (inserted < at) {
+                insert(inserted++);
+            }
+            matchLength = 0;
+            int limit = data.length - at;
+            int candidate = head[hash(at)];
+            for (int chain = maxChain; candidate >= 0 && at - candidate <= WINDOW_SIZE && chain > 0; chain--) {
+                if (data[candidate + matchLength] == data[at + matchLength]) {
+                    int length = ByteScanner.matchLength(data, candidate, at, limit);
+                    if (length > matchLength) {
+                        matchLength = length;
+                        matchDistance = at - candidate;
+                        if (length >= niceLength || length == limit) {
+                            return;
+                        }
+                    }
+                }
+                int next = previous[candidate & previousMask];
+                if (next >= candidate) {
+                    return;
+                }
+                candidate = next;
+            }
+        }
+
+        private void insert(int at) {
+            if (at + MIN_MATCH <= data.length) {
+                int hash = hash(at);
+                previous[at & previousMask] = head[hash];
+                head[hash] = at;
+            }
+        }
+
+        private int hash(int at) {
+            int value = (data[at] & 0xFF) << 24 | (data[at + 1] & 0xFF) << 16 | (data[at + 2] & 0xFF) << 8 | data[at + 3] & 0xFF;
+            return value * 0x9E3779B1 >>> (Integer.SIZE - HASH_BITS);
+        }
+
+        private void writeSequence(int from, int literals, int length, int distance) {
+            int lengthCode = length == 0 ? 0 : length - MIN_MATCH;
+            compressed[position++] = (byte) (Math.min(literals, NIBBLE) << 4 | Math.min(lengthCode, NIBBLE));
+            if (literals >= NIBBLE) {
+                position = RLE.writeVarint(compressed, position, literals - NIBBLE);
+            }
+            System.arraycopy(data, from, compressed, position, literals);
+            position += literals;
+            literalsCount += literals;
+            if (length > 0) {
+                if (lengthCode >= NIBBLE) {
+                    position = RLE.writeVarint(compressed, position, lengthCode - NIBBLE);
+                }
+                position = RLE.writeVarint(compressed, position, distance - 1);
+                matchesCount++;
+                longestMatch = Math.max(longestMatch, length);
+            }
+        }
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        byte[] restored = new byte[RLE.readVarint(ByteBuffer.wrap(compressed))];
+        restore(compressed, restored);
+        return restored;
+    }
+
+    @Override
+    public void restore(byte[] compressed, byte[] restored) {
+        ByteBuffer buffer = ByteBuffer.wrap(compressed);
+        int length = RLE.readVarint(buffer);
+        if (length != restored.length) {
+            throw new IllegalStateException(String.format("Restored data has %d bytes instead of %d", length, restored.length));
+        }
+        int index = 0;
+        while (true) {
+            int token = Byte.toUnsignedInt(buffer.get());
+            int literals = token >>> 4;
+            if (literals == NIBBLE) {
+                literals += RLE.readVarint(buffer);
+            }
+            if (literals > length - index) {
+                throw new IllegalStateException("Literals run past the end of data");
+            }
+            buffer.get(restored, index, literals);
+            index += literals;
+            if (index == length) {
+                return;
+            }
+            int matchLength = token & NIBBLE;
+            if (matchLength == NIBBLE) {
+                matchLength += RLE.readVarint(buffer);
+            }
+            matchLength += MIN_MATCH;
+            int from = index - RLE.readVarint(buffer) - 1;
+            int end = index + matchLength;
+            if (from < 0 || end > length || end < 0) {
+                throw new IllegalStateException("Invalid match");
+            }
+            while (index < end) {
+                int count = Math.min(index - from, end - index);
+                System.arraycopy(restored, from, restored, index, count);
+                index += count;
+            }
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package edu.onu.ddechev.codecs;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Map;
+
+public class LZW implements Codec {
+    private static final int CLEAR_CODE = 256;
+    private static final int END_CODE = 257;
+    private static final int FIRST_CODE = 258;
+    static final int MIN_CODE_LENGTH = 9;
+    static final int MAX_CODE_LENGTH = 16;
+    static final int DEFAULT_MAX_CODE_LENGTH = 16;
+    static final int CHECK_INTERVAL = 10000;
+
+    /**
+     * When the encoder clears the dictionary.
+     */
+    public enum ResetPolicy {
+        /**
+         * As soon as the dictionary is full.
+         */
+        ON_FULL,
+        /**
+         * Full dictionary is frozen and kept while it works, like in compress(1): ratio of the current table
+         * (input since the last clear to output since then) is checked every {@value CHECK_INTERVAL} input bytes,
+         * the dictionary is cleared once the ratio drops below the best one seen.
+         */
+        ADAPTIVE
+    }
+
+    private final int maxCodeLength;
+    private final ResetPolicy resetPolicy;
+
+    public LZW() {
+        this(DEFAULT_MAX_CODE_LENGTH);
+    }
+
+    public LZW(ResetPolicy resetPolicy) {
+        this(DEFAULT_MAX_CODE_LENGTH, resetPolicy);
+    }
+
+    public LZW(int maxCodeLength) {
+        this(maxCodeLength, ResetPolicy.ON_FULL);
+    }
+
+    public LZW(int maxCodeLength, ResetPolicy resetPolicy) {
+        if (maxCodeLength < MIN_CODE_LENGTH || maxCodeLength > MAX_CODE_LENGTH) {
+            throw new InvalidParameterException(String.format("Code length should be in range [%d, %d]", MIN_CODE_LENGTH, MAX_CODE_LENGTH));
+        }
+        this.maxCodeLength = maxCodeLength;
+        this.resetPolicy = resetPolicy;
+    }
+
+    /**
+     * Stream layout: max code length (byte), codes. Codes start 9 bits wide and grow with the decoder table.
+     */
+    @Override
+    public CodecResult compress(byte[] data) {
+        int capacity = 1 << maxCodeLength;
+        long maxCodesCount = data.length + data.length / (capacity - FIRST_CODE) + 3;
+        byte[] compressed = new byte[1 + BitWriter.size(maxCodesCount * maxCodeLength)];
+        compressed[0] = (byte) maxCodeLength;
+        CodeWriter writer = new CodeWriter(new BitWriter(compressed, 1), maxCodeLength);
+        writer.clear();
+        compress(data, writer);
+        writer.end();
+        return new CodecResult(Arrays.copyOf(compressed, writer.flush()), new CompressionStats(Map.of(
+                "max code length", maxCodeLength,
+                "reset policy", resetPolicy,
+                "clears count", writer.tablesCount - 1,
+                "tables count", writer.tablesCount,
+                "known code count", writer.knownCodeCount,
+                "unknown code count", writer.unknownCodeCount
+        )));
+    }
+
+    void compress(byte[] data, CodeWriter writer) {
+        if (data.length == 0) {
+            return;
+        }
+        Trie trie = new Trie(maxCodeLength);
+        int tableStart = 0;
+        long tableBits = writer.bits();
+        int checkpoint = CHECK_INTERVAL;
+        double bestRatio = 0;
+        int current = Byte.toUnsignedInt(data[0]);
+        for (int i = 1; i < data.length; i++) {
+            int code = trie.putIfAbsent(current, data[i]);
+            if (code < 0) {
+                writer.write(current);
+                boolean full = !trie.hasCapacity();
+                if (resetPolicy == ResetPolicy.ADAPTIVE && i >= checkpoint) {
+                    double ratio = (double) (i - tableStart) * Byte.SIZE / (writer.bits() - tableBits);
+                    if (full && ratio < bestRatio) {
+                        bestRatio = 0;
+                        tableStart = i;
+                        tableBits = writer.bits();
+                        trie.init();
+                        writer.clear();
+                    } else {
+                        bestRatio = Math.max(bestRatio, ratio);
+                    }
+                    checkpoint = i + CHECK_INTERVAL;
+                } else if (resetPolicy == ResetPolicy.ON_FULL && full) {
+                    trie.init();
+                    writer.clear();
+                }
+                current = Byte.toUnsignedInt(data[i]);
+            } else {
+                current = code;
+            }
+        }
+        writer.write(current);
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        return decode(compressed, new byte[Math.max(compressed.length * 4, 16)], false);
+    }
+
+    @Override
+    public void restore(byte[] compressed, byte[] restored) {
+        decode(compressed, restored, true);
+    }
+
+    /**
+     * Streaming decoder: codes are read straight from the bitstream, strings are kept as prefix chains
+     * (prefix code, suffix byte, length) and written backwards right into the output.
+     * @param exact whether output has the exact restored size, otherwise it grows as needed
+     */
+    private byte[] decode(byte[] compressed, byte[] restored, boolean exact) {
+        if (compressed.length == 0) {
+            throw new IllegalStateException("Unexpected end of LZW stream");
+        }
+        int maxCodeLength = compressed[0];
+        if (maxCodeLength < MIN_CODE_LENGTH || maxCodeLength > MAX_CODE_LENGTH) {
+            throw new IllegalStateException(String.format("Unexpected max code length %d", maxCodeLength));
+        }
+        int capacity = 1 << maxCodeLength;
+        int[] prefixes = new int[capacity];
+        byte[] suffixes = new byte[capacity];
+        int[] lengths = new int[capacity];
+        for (int code = 0; code < 256; code++) {
+            suffixes[code] = (byte) code;
+            lengths[code] = 1;
+        }
+        CodeReader reader = new CodeReader(new BitReader(compressed, 1, compressed.length - 1), maxCodeLength);
+        int position = 0;
+        int nextCode = FIRST_CODE;
+        int previous = -1;
+        int code;
+        while ((code = reader.read()) != END_CODE) {
+            if (code == CLEAR_CODE) {
+                nextCode = FIRST_CODE;
+                previous = -1;
+                continue;
+            }
+            int length;
+            if (previous < 0 || code < nextCode) {
+                if (previous < 0 && code > 255) {
+                    throw new IllegalStateException(String.format("Unexpected code %d after table reset", code));
+                }
+                length = lengths[code];
+                restored = ensureCapacity(restored, position + length, exact);
+                writeString(code, prefixes, suffixes, restored, position + length - 1);
+            } else if (code == nextCode) {
+                length = lengths[previous] + 1;
+                restored = ensureCapacity(restored, position + length, exact);
+                writeString(previous, prefixes, suffixes, restored, position + length - 2);
+                restored[position + length - 1] = restored[position];
+            } else {
+                throw new IllegalStateException(String.format("Unexpected code %d, next table code is %d", code, nextCode));
+            }
+            if (previous >= 0 && nextCode < capacity) {
+                prefixes[nextCode] = previous;
+                suffixes[nextCode] = restored[position];
+                lengths[nextCode] = lengths[previous] + 1;
+                nextCode++;
+            }
+            position += length;
+            previous = code;
+        }
+        if (exact && position != restored.length) {
+            throw new IllegalStateException(String.format("Restored %d bytes instead of %d", position, restored.length));
+        }
+        return exact ? restored : Arrays.copyOf(restored, position);
+    }
+
+    private static void writeString(int code, int[] prefixes, byte[] suffixes, byte[] restored, int last) {
+        while (code > 255) {
+            restored[last--] = suffixes[code];
+            code = prefixes[code];
+        }
+        restored[last] = (byte) code;
+    }
+
+    private static byte[] ensureCapacity(byte[] restored, int length, boolean exact) {
+        if (length <= restored.length) {
+            return restored;
+        }
+        if (exact) {
+            throw new IllegalStateException(String.format("Restored data exceeds %d bytes", restored.length));
+        }
+        return Arrays.copyOf(restored, Math.max(length, restored.length * 2));
+    }
+
+    /**
+     * Width of the next code: enough to hold the next decoder table code, which the encoder may already emit.
+     */
+    private static int codeLength(int nextCode, int maxCodeLength) {
+        return Math.min(Math.max(Integer.SIZE - Integer.numberOfLeadingZeros(nextCode), MIN_CODE_LENGTH), maxCodeLength);
+    }
+
+    /**
+     * Writes codes with widths tracked from the decoder side: decoder adds a table entry
+     * on every code except the first one after CLEAR, while its table has capacity.
+     * Also counts codes as the decoder will see them: known ones are already in its table,
+     * unknown ones are the entry it is about to add.
+     */
+    static class CodeWriter {
+        private final BitWriter writer;
+        private final int maxCodeLength;
+        private final int capacity;
+        private int nextCode;
+        private boolean first;
+        private long bits;
+        private int tablesCount;
+        private int knownCodeCount;
+        private int unknownCodeCount;
+
+        CodeWriter(BitWriter writer, int maxCodeLength) {
+            this.writer = writer;
+            this.maxCodeLength = maxCodeLength;
+            this.capacity = 1 << maxCodeLength;
+            this.nextCode = FIRST_CODE;
+        }
+
+        void write(int code) {
+            int length = codeLength(nextCode, maxCodeLength);
+            writer.write(code, length);
+            bits += length;
+            if (!first) {
+                if (code < nextCode) {
+                    knownCodeCount++;
+                } else {
+                    unknownCodeCount++;
+                }
+                if (nextCode < capacity) {
+                    nextCode++;
+                }
+            }
+            first = false;
+        }
+
+        void clear() {
+            int length = codeLength(nextCode, maxCodeLength);
+            writer.write(CLEAR_CODE, length);
+            bits += length;
+            tablesCount++;
+            nextCode = FIRST_CODE;
+            first = true;
+        }
+
+        void end() {
+            writer.write(END_CODE, codeLength(nextCode, maxCodeLength));
+        }
+
+        /**
+         * Number of bits written so far.
+         */
+        long bits() {
+            return bits;
+        }
+
+        int flush() {
+            return writer.flush();
+        }
+    }
+
+    /**
+     * Reads codes written by {@link CodeWriter}, mirroring its width tracking.
+     */
+    static class CodeReader {
+        private final BitReader reader;
+        private final int maxCodeLength;
+        private final int capacity;
+        private int nextCode;
+        private boolean first;
+
+        CodeReader(BitReader reader, int maxCodeLength) {
+            this.reader = reader;
+            this.maxCodeLength = maxCodeLength;
+            this.capacity = 1 << maxCodeLength;
+            this.nextCode = FIRST_CODE;
+        }
+
+        int read() {
+            if (reader.remaining() <= 0) {
+                throw new IllegalStateException("Unexpected end of LZW stream");
+            }
+            int code = reader.read(codeLength(nextCode, maxCodeLength));
+            if (code == CLEAR_CODE) {
+                nextCode = FIRST_CODE;
+                first = true;
+            } else if (code != END_CODE) {
+                if (!first && nextCode < capacity) {
+                    nextCode++;
+                }
+                first = false;
+            }
+            return code;
+        }
+    }
+
+    /**
+     * Encoder dictionary: maps (prefix code, next byte) to a code, so a string is extended by a single probe.
+     * Open addressing hash table over flat arrays, keys are stored incremented by one to keep zero as an empty slot.
+     */
+    private static class Trie {
+        private final int[] keys;
+        private final int[] codes;
+        private final int mask;
+        private final int capacity;
+        private int codeCounter;
+
+        public Trie(int codeLength) {
+            if (codeLength > 24) {
+                throw new IllegalStateException("Code length too long");
+            }
+            this.capacity = 1 << codeLength;
+            keys = new int[capacity << 1];
+            codes = new int[capacity << 1];
+            mask = keys.length - 1;
+            init();
+        }
+
+        public void init() {
+            Arrays.fill(keys, 0);
+            codeCounter = FIRST_CODE;
+        }
+
+        /**
+         * @return code of the string extended by the byte, or -1 if it was absent;
+         * absent string is added while the dictionary has capacity
+         */
+        public int putIfAbsent(int prefix, byte b) {
+            int key = (prefix << 8 | Byte.toUnsignedInt(b)) + 1;
+            int index = (key * 0x9E3779B1) >>> 8 & mask;
+            while (keys[index] != 0) {
+                if (keys[index] == key) {
+                    return codes[index];
+                }
+                index = (index + 1) & mask;
+            }
+            if (codeCounter < capacity) {
+                keys[index] = key;
+                codes[index] = codeCounter++;
+            }
+            return -1;
+        }
+
+        public Boolean hasCapacity() {
+            return codeCounter < capacity;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package edu.onu.ddechev.codecs;
+
+public class NoOp implements Codec {
+
+    @Override
+    public CodecResult compress(byte[] data) {
+        return new CodecResult(data, CompressionStats.EMPTY);
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        return compressed;
+    }
+}
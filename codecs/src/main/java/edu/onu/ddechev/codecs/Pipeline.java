@@ -0,0 +1,105 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Chain of codecs, every stage compresses output of the previous one, output arrays are passed to the next stage
+ * as is. Image rows are seen by the first stage and stages following only pixel transforms. Stages are recorded in the stream by their {@link CodecRegistry} ids,
+ * so any pipeline restores any pipeline stream and every stage should be registered there.
+ * <p>
+ * Stream layout: stages count (byte), codec id and input length of every stage (int each), output of the last stage.
+ */
+public class Pipeline implements Codec {
+
+    private static final int STAGE_SIZE = 2 * Integer.BYTES;
+
+    private final List<Codec> stages;
+
+    Pipeline(List<Codec> stages) {
+        this.stages = stages;
+    }
+
+    public static Pipeline of(Codec... stages) {
+        if (stages.length < 1 || stages.length > Byte.MAX_VALUE) {
+            throw new InvalidParameterException(String.format("Pipeline should have from 1 to %d stages", Byte.MAX_VALUE));
+        }
+        return new Pipeline(List.of(stages));
+    }
+
+    @Override
+    public String getName() {
+        if (stages.isEmpty()) {
+            return Codec.super.getName();
+        }
+        return stages.stream().map(Codec::getName).collect(Collectors.joining(" + "));
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) throws IOException {
+        return compress(data, 0);
+    }
+
+    @Override
+    public CodecResult compress(byte[] data, int width) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(1 + stages.size() * STAGE_SIZE);
+        header.put((byte) stages.size());
+        Map<String, Object> properties = new HashMap<>();
+        byte[] output = data;
+        int rowsWidth = width;
+        for (int i = 0; i < stages.size(); i++) {
+            Codec stage = stages.get(i);
+            header.putInt(CodecRegistry.getId(stage)).putInt(output.length);
+            CodecResult result = rowsWidth > 0 ? stage.compress(output, rowsWidth) : stage.compress(output);
+            if (!(stage instanceof PixelTransform)) {
+                rowsWidth = 0;
+            }
+            output = result.getData();
+            String prefix = String.format("%d. %s: ", i + 1, stage.getName());
+            result.getStats().getProperties().forEach((key, value) -> properties.put(prefix + key, value));
+            properties.put(prefix + "output size, bytes", output.length);
+        }
+        byte[] compressed = Arrays.copyOf(header.array(), header.capacity() + output.length);
+        System.arraycopy(output, 0, compressed, header.capacity(), output.length);
+        return new CodecResult(compressed, new CompressionStats(properties));
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) throws IOException {
+        byte[] restored = new byte[ByteBuffer.wrap(compressed).getInt(1 + Integer.BYTES)];
+        restore(compressed, restored);
+        return restored;
+    }
+
+    @Override
+    public void restore(byte[] compressed, byte[] restored) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(compressed);
+        int count = buffer.get();
+        if (count < 1) {
+            throw new IllegalStateException(String.format("Invalid pipeline of %d stages", count));
+        }
+        Codec[] codecs = new Codec[count];
+        int[] lengths = new int[count];
+        for (int i = 0; i < count; i++) {
+            int id = buffer.getInt();
+            codecs[i] = CodecRegistry.getCodec(id)
+                    .orElseThrow(() -> new IllegalStateException(String.format("Unknown codec id %d", id)));
+            lengths[i] = buffer.getInt();
+        }
+        if (lengths[0] != restored.length) {
+            throw new IllegalStateException(String.format("Restored data has %d bytes instead of %d", lengths[0], restored.length));
+        }
+        byte[] data = Arrays.copyOfRange(compressed, buffer.position(), compressed.length);
+        for (int i = count - 1; i >= 0; i--) {
+            byte[] input = i == 0 ? restored : new byte[lengths[i]];
+            codecs[i].restore(data, input);
+            data = input;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package edu.onu.ddechev.codecs;
+
+/**
+ * Stage which keeps data laid out as interleaved pixels of the same count, so a {@link Pipeline} passes image rows
+ * through it to the next stage.
+ */
+interface PixelTransform extends Codec {
+}
@@ -0,0 +1,169 @@
+package edu.onu.ddechev.codecs;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Reversible prediction stage which replaces every byte with its difference from a prediction made from the
+ * neighbour bytes of the same channel: left (a), above (b) and above-left (c). The output is not smaller,
+ * but residuals of smooth images are close to zero, so the stage is meant to be followed by a codec
+ * in a {@link Pipeline}.
+ * <p>
+ * Filter of every row is chosen by the minimal sum of absolute residuals, rows are filtered in parallel.
+ * Plain data without rows is treated as an image of a single row.
+ * <p>
+ * Stream layout: width (int), then for every row filter id (byte) and residuals.
+ */
+public class PredictiveFilter implements Codec {
+
+    public enum Filter {
+        NONE, SUB, UP, AVERAGE, PAETH,
+        /**
+         * Median edge detector of LOCO-I.
+         */
+        MED
+    }
+
+    private static final int PIXEL_SIZE = 3;
+    private static final Filter[] FILTERS = Filter.values();
+
+    private final Filter filter;
+
+    /**
+     * Creates the stage choosing the filter of every row.
+     */
+    public PredictiveFilter() {
+        this(null);
+    }
+
+    /**
+     * Creates the stage applying the given filter to all rows.
+     */
+    public PredictiveFilter(Filter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) {
+        if (data.length % PIXEL_SIZE != 0) {
+            throw new InvalidParameterException(String.format("Data length %d is not a whole number of pixels", data.length));
+        }
+        return compress(data, data.length / PIXEL_SIZE);
+    }
+
+    @Override
+    public CodecResult compress(byte[] data, int width) {
+        int rowSize = width * PIXEL_SIZE;
+        int height = rowSize == 0 ? 0 : data.length / rowSize;
+        if (rowSize * height != data.length) {
+            throw new InvalidParameterException(String.format("Data length %d is not a whole number of rows of %d pixels", data.length, width));
+        }
+        byte[] filtered = new byte[Integer.BYTES + height * (rowSize + 1)];
+        ByteBuffer.wrap(filtered).putInt(width);
+        byte[] filters = new byte[height];
+        IntStream.range(0, height).parallel().forEach(y -> {
+            int offset = Integer.BYTES + y * (rowSize + 1);
+            Filter rowFilter = filter == null ? chooseFilter(data, y * rowSize, rowSize, y > 0) : filter;
+            filters[y] = (byte) rowFilter.ordinal();
+            filtered[offset] = filters[y];
+            filterRow(rowFilter, data, y * rowSize, rowSize, y > 0, filtered, offset + 1);
+        });
+        Map<Filter, Integer> counts = new EnumMap<>(Filter.class);
+        for (byte id : filters) {
+            counts.merge(FILTERS[id], 1, Integer::sum);
+        }
+        Map<String, Object> properties = new HashMap<>();
+        counts.forEach((rowFilter, count) -> properties.put(String.format("%s rows", rowFilter), count));
+        properties.put("rows", height);
+        return new CodecResult(filtered, new CompressionStats(properties));
+    }
+
+    private static Filter chooseFilter(byte[] data, int from, int rowSize, boolean hasUp) {
+        Filter best = Filter.NONE;
+        long bestCost = Long.MAX_VALUE;
+        for (Filter candidate : FILTERS) {
+            long cost = 0;
+            for (int i = 0; i < rowSize && cost < bestCost; i++) {
+                cost += Math.abs((byte) (data[from + i] - predict(candidate, data, from, i, rowSize, hasUp)));
+            }
+            if (cost < bestCost) {
+                best = candidate;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    private static void filterRow(Filter filter, byte[] data, int from, int rowSize, boolean hasUp, byte[] filtered, int to) {
+        for (int i = 0; i < rowSize; i++) {
+            filtered[to + i] = (byte) (data[from + i] - predict(filter, data, from, i, rowSize, hasUp));
+        }
+    }
+
+    /**
+     * Predicts byte {@code i} of the row starting at {@code from} from already known bytes of the data.
+     */
+    private static int predict(Filter filter, byte[] data, int from, int i, int rowSize, boolean hasUp) {
+        int a = i >= PIXEL_SIZE ? data[from + i - PIXEL_SIZE] & 0xFF : 0;
+        int b = hasUp ? data[from + i - rowSize] & 0xFF : 0;
+        int c = hasUp && i >= PIXEL_SIZE ? data[from + i - rowSize - PIXEL_SIZE] & 0xFF : 0;
+        switch (filter) {
+            case SUB:
+                return a;
+            case UP:
+                return b;
+            case AVERAGE:
+                return (a + b) >>> 1;
+            case PAETH:
+                int p = a + b - c;
+                int pa = Math.abs(p - a);
+                int pb = Math.abs(p - b);
+                int pc = Math.abs(p - c);
+                return pa <= pb && pa <= pc ? a : pb <= pc ? b : c;
+            case MED:
+                if (c >= Math.max(a, b)) {
+                    return Math.min(a, b);
+                }
+                if (c <= Math.min(a, b)) {
+                    return Math.max(a, b);
+                }
+                return a + b - c;
+            default:
+                return 0;
+        }
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        int width = ByteBuffer.wrap(compressed).getInt();
+        int rows = width == 0 ? 0 : (compressed.length - Integer.BYTES) / (width * PIXEL_SIZE + 1);
+        byte[] restored = new byte[rows * width * PIXEL_SIZE];
+        restore(compressed, restored);
+        return restored;
+    }
+
+    @Override
+    public void restore(byte[] compressed, byte[] restored) {
+        int rowSize = ByteBuffer.wrap(compressed).getInt() * PIXEL_SIZE;
+        int height = rowSize == 0 ? 0 : restored.length / rowSize;
+        if (rowSize * height != restored.length || Integer.BYTES + height * (rowSize + 1) != compressed.length) {
+            throw new IllegalStateException(String.format("Filtered data of %d bytes does not restore into %d bytes", compressed.length, restored.length));
+        }
+        for (int y = 0; y < height; y++) {
+            int offset = Integer.BYTES + y * (rowSize + 1);
+            int id = compressed[offset];
+            if (id < 0 || id >= FILTERS.length) {
+                throw new IllegalStateException(String.format("Unknown filter %d in row %d", id, y));
+            }
+            Filter rowFilter = FILTERS[id];
+            int from = y * rowSize;
+            for (int i = 0; i < rowSize; i++) {
+                restored[from + i] = (byte) (compressed[offset + 1 + i] + predict(rowFilter, restored, from, i, rowSize, y > 0));
+            }
+        }
+    }
+}
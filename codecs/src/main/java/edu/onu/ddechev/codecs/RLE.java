@@ -0,0 +1,389 @@
+package edu.onu.ddechev.codecs;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Run-length codec. Stream starts with a mode byte:
+ * <ul>
+ * <li>{@link Mode#CHANNEL} - data length, coded sizes of R and G planes (varint each), then R, G and B planes
+ * one after another (data which is not a whole number of pixels has shorter G and B planes), each coded in runs of bytes with one byte headers: flag bit (repeat/copy) and 7-bit count.
+ * Planes are coded and restored in parallel on the common ForkJoinPool;</li>
+ * <li>{@link Mode#PIXEL} - pixels count (varint), then runs of whole 3-byte pixels with varint headers
+ * {@code (count - 1) << 1 | flag}, followed by one pixel for repeat or {@code count} pixels for copy.</li>
+ * </ul>
+ * Varints are LEB128: 7 bits per byte, low bits first, high bit set on all bytes but the last one.
+ */
+public class RLE implements Codec {
+
+    public enum Mode {
+        /**
+         * Pixel mode, channel mode is also tried when pixel runs save less than a quarter of the data.
+         */
+        AUTO,
+        PIXEL,
+        CHANNEL
+    }
+
+    private static final Integer MAX_ENCODE_LENGTH = 1 << 7;
+    private static final int PIXEL_SIZE = 3;
+    private static final int INTERLEAVE_CHUNK = 1 << 16;
+    private final Mode mode;
+
+    public RLE() {
+        this(Mode.AUTO);
+    }
+
+    public RLE(Mode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) {
+        if (mode != Mode.CHANNEL && data.length % PIXEL_SIZE == 0) {
+            CodecResult pixels = compressPixels(data);
+            if (mode == Mode.PIXEL || data.length == 0 || pixels.getData().length <= data.length / 4 * 3) {
+                return pixels;
+            }
+            CodecResult channels = compressChannels(data);
+            return pixels.getData().length <= channels.getData().length ? pixels : channels;
+        }
+        if (mode == Mode.PIXEL) {
+            throw new InvalidParameterException(String.format("Data length should be a multiple of %d in pixel mode", PIXEL_SIZE));
+        }
+        return compressChannels(data);
+    }
+
+    private static CodecResult compressPixels(byte[] data) {
+        RunStats stats = new RunStats();
+        int pixels = data.length / PIXEL_SIZE;
+        byte[] compressed = new byte[1 + 5 + pixels * 4];
+        compressed[0] = (byte) Mode.PIXEL.ordinal();
+        int position = writeVarint(compressed, 1, pixels);
+        int index = 0;
+        while (index < pixels) {
+            int repeat = findPixelRepeat(data, index, pixels);
+            if (repeat > index) {
+                int different = repeat - index;
+                position = writeVarint(compressed, position, (different - 1) << 1);
+                System.arraycopy(data, index * PIXEL_SIZE, compressed, position, different * PIXEL_SIZE);
+                position += different * PIXEL_SIZE;
+                index = repeat;
+                stats.countDiff(different);
+            }
+            if (index < pixels) {
+                int offset = index * PIXEL_SIZE;
+                int same = 1 + ByteScanner.matchLength(data, offset, offset + PIXEL_SIZE, data.length - offset - PIXEL_SIZE) / PIXEL_SIZE;
+                position = writeVarint(compressed, position, (same - 1) << 1 | 1);
+                System.arraycopy(data, offset, compressed, position, PIXEL_SIZE);
+                position += PIXEL_SIZE;
+                index += same;
+                stats.countSame(same);
+            }
+        }
+        return new CodecResult(Arrays.copyOf(compressed, position), stats.toStats(Mode.PIXEL));
+    }
+
+    /**
+     * First pixel starting at {@code from} which is equal to the next one, or {@code pixels} if there is none.
+     */
+    private static int findPixelRepeat(byte[] data, int from, int pixels) {
+        int end = (pixels - 1) * PIXEL_SIZE;
+        int offset = from * PIXEL_SIZE;
+        while (offset < end) {
+            offset = ByteScanner.findRepeat(data, offset, end, PIXEL_SIZE);
+            if (offset == end) {
+                break;
+            }
+            int pixel = offset / PIXEL_SIZE;
+            if (offset % PIXEL_SIZE == 0 && ByteScanner.matchLength(data, offset, offset + PIXEL_SIZE, PIXEL_SIZE) == PIXEL_SIZE) {
+                return pixel;
+            }
+            offset = (pixel + 1) * PIXEL_SIZE;
+        }
+        return pixels;
+    }
+
+    static int writeVarint(byte[] data, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            data[position++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        data[position++] = (byte) value;
+        return position;
+    }
+
+    static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new IllegalStateException("Unexpected end of RLE stream");
+            }
+            int current = buffer.get();
+            value |= (current & 0x7F) << shift;
+            if (current >= 0) {
+                return value;
+            }
+            if (shift >= 28) {
+                throw new IllegalStateException("Varint is too long");
+            }
+        }
+    }
+
+    private static CodecResult compressChannels(byte[] data) {
+        RunStats[] channelStats = {new RunStats(), new RunStats(), new RunStats()};
+        byte[][] planes = IntStream.range(0, PIXEL_SIZE).parallel()
+                .mapToObj(channel -> compressChannel(getChannel(channel, data), channelStats[channel]))
+                .toArray(byte[][]::new);
+        RunStats stats = new RunStats();
+        for (RunStats channel : channelStats) {
+            stats.add(channel);
+        }
+        byte[] header = new byte[16];
+        header[0] = (byte) Mode.CHANNEL.ordinal();
+        int headerSize = writeVarint(header, 1, data.length);
+        headerSize = writeVarint(header, headerSize, planes[0].length);
+        headerSize = writeVarint(header, headerSize, planes[1].length);
+        byte[] compressed = ByteBuffer
+                .allocate(headerSize + planes[0].length + planes[1].length + planes[2].length)
+                .put(header, 0, headerSize)
+                .put(planes[0]).put(planes[1]).put(planes[2])
+                .array();
+        return new CodecResult(compressed, stats.toStats(Mode.CHANNEL));
+    }
+
+    private static int planeLength(int length, int channel) {
+        return (length - channel + PIXEL_SIZE - 1) / PIXEL_SIZE;
+    }
+
+    private static byte[] getChannel(int offset, byte[] data) {
+        int size = planeLength(data.length, offset);
+        byte[] channel = new byte[size];
+        for (int i = 0; i < size; i++) {
+            channel[i] = data[i*3+offset];
+        }
+        return channel;
+    }
+
+    /**
+     * Codes a plane in a single pass: literal bytes are scanned up to the next repeated byte, then the run starting there.
+     */
+    private static byte[] compressChannel(byte[] data, RunStats stats) {
+        int maxCount = MAX_ENCODE_LENGTH - 1;
+        byte[] compressed = new byte[data.length + data.length / 2 + 2];
+        int position = 0;
+        int index = 0;
+        while (index < data.length) {
+            int repeat = ByteScanner.findRepeat(data, index, data.length - 1, 1);
+            if (repeat == data.length - 1) {
+                repeat = data.length;
+            }
+            while (index < repeat) {
+                int count = Math.min(repeat - index, maxCount);
+                compressed[position++] = (byte) firstByte(false, count);
+                System.arraycopy(data, index, compressed, position, count);
+                position += count;
+                index += count;
+                stats.countDiff(count);
+            }
+            if (index < data.length) {
+                int same = 1 + ByteScanner.matchLength(data, index, index + 1, data.length - index - 1);
+                while (same > 1) {
+                    int count = Math.min(same, maxCount);
+                    compressed[position++] = (byte) firstByte(true, count);
+                    compressed[position++] = data[index];
+                    index += count;
+                    same -= count;
+                    stats.countSame(count);
+                }
+            }
+        }
+        return Arrays.copyOf(compressed, position);
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        ByteBuffer buffer = ByteBuffer.wrap(compressed, 1, compressed.length - 1);
+        int length = readVarint(buffer);
+        byte[] restored = new byte[compressed[0] == Mode.PIXEL.ordinal() ? length * PIXEL_SIZE : length];
+        restore(compressed, restored);
+        return restored;
+    }
+
+    /**
+     * Decodes runs into the interleaved destination, which should have exactly the restored size.
+     */
+    @Override
+    public void restore(byte[] compressed, byte[] restored) {
+        int mode = compressed[0];
+        ByteBuffer buffer = ByteBuffer.wrap(compressed, 1, compressed.length - 1);
+        int length = readVarint(buffer);
+        if (mode == Mode.PIXEL.ordinal()) {
+            length *= PIXEL_SIZE;
+        }
+        if (length != restored.length) {
+            throw new IllegalStateException(String.format("Restored data has %d bytes instead of %d", length, restored.length));
+        }
+        if (mode == Mode.PIXEL.ordinal()) {
+            restorePixels(buffer, restored);
+        } else if (mode == Mode.CHANNEL.ordinal()) {
+            restoreChannels(buffer, restored);
+        } else {
+            throw new IllegalStateException(String.format("Unknown RLE mode %d", mode));
+        }
+    }
+
+    private static void restorePixels(ByteBuffer buffer, byte[] restored) {
+        int index = 0;
+        while (index < restored.length) {
+            int header = readVarint(buffer);
+            int count = (header >>> 1) + 1;
+            if (count < 1 || count > (restored.length - index) / PIXEL_SIZE) {
+                throw new IllegalStateException("Invalid run length");
+            }
+            if (((header & 1) == 1 ? PIXEL_SIZE : count * PIXEL_SIZE) > buffer.remaining()) {
+                throw new IllegalStateException("Unexpected end of RLE stream");
+            }
+            if ((header & 1) == 1) { // repeat
+                buffer.get(restored, index, PIXEL_SIZE);
+                int end = index + count * PIXEL_SIZE;
+                for (int filled = index + PIXEL_SIZE; filled < end; filled += filled - index) {
+                    System.arraycopy(restored, index, restored, filled, Math.min(filled - index, end - filled));
+                }
+            } else { // copy
+                buffer.get(restored, index, count * PIXEL_SIZE);
+            }
+            index += count * PIXEL_SIZE;
+        }
+    }
+
+    /**
+     * Planes are restored in parallel. Several threads writing every third byte of the same output would keep
+     * stealing cache lines from each other, so then planes go to a planar buffer which is interleaved afterwards.
+     * The planar buffer costs one allocation of the output size; with a single pool thread it is skipped and planes
+     * are decoded one at a time straight into the output.
+     */
+    private static void restoreChannels(ByteBuffer buffer, byte[] restored) {
+        int length = restored.length / PIXEL_SIZE;
+        int tail = restored.length % PIXEL_SIZE;
+        int[] offsets = new int[PIXEL_SIZE + 1];
+        int sizeR = readVarint(buffer);
+        int sizeG = readVarint(buffer);
+        offsets[0] = buffer.position();
+        offsets[1] = offsets[0] + sizeR;
+        offsets[2] = offsets[1] + sizeG;
+        offsets[3] = buffer.limit();
+        byte[] compressed = buffer.array();
+        if (ForkJoinPool.getCommonPoolParallelism() > 1) {
+            byte[] planes = new byte[restored.length];
+            int[] starts = {0, planeLength(restored.length, 0), planeLength(restored.length, 0) + planeLength(restored.length, 1), restored.length};
+            IntStream.range(0, PIXEL_SIZE).parallel().forEach(channel -> restoreChannel(
+                    ByteBuffer.wrap(compressed, offsets[channel], offsets[channel + 1] - offsets[channel]),
+                    planes, starts[channel], starts[channel + 1], 1
+            ));
+            IntStream.range(0, (length + INTERLEAVE_CHUNK - 1) / INTERLEAVE_CHUNK).parallel().forEach(chunk -> {
+                int end = Math.min(length, (chunk + 1) * INTERLEAVE_CHUNK);
+                for (int i = chunk * INTERLEAVE_CHUNK; i < end; i++) {
+                    restored[i * 3] = planes[i];
+                    restored[i * 3 + 1] = planes[starts[1] + i];
+                    restored[i * 3 + 2] = planes[starts[2] + i];
+                }
+            });
+            for (int channel = 0; channel < tail; channel++) {
+                restored[length * 3 + channel] = planes[starts[channel] + length];
+            }
+        } else {
+            for (int channel = 0; channel < PIXEL_SIZE; channel++) {
+                restoreChannel(
+                        ByteBuffer.wrap(compressed, offsets[channel], offsets[channel + 1] - offsets[channel]),
+                        restored, channel, restored.length, PIXEL_SIZE
+                );
+            }
+        }
+    }
+
+    /**
+     * Decodes a plane into bytes {@code from, from + step, ...} of the destination, up to {@code to}.
+     */
+    private static void restoreChannel(ByteBuffer buffer, byte[] restored, int from, int to, int step) {
+        int index = from;
+        while (index < to) {
+            int current = Byte.toUnsignedInt(buffer.get());
+            int flag = current >> 7;
+            int count = current & 0B01111111;
+            int end = index + count * step;
+            if (count == 0 || end - step >= to) {
+                throw new IllegalStateException("Invalid run length");
+            }
+            if (flag == 1) { // repeat
+                byte value = buffer.get();
+                for (; index < end; index += step) {
+                    restored[index] = value;
+                }
+            } else { // copy
+                for (; index < end; index += step) {
+                    restored[index] = buffer.get();
+                }
+            }
+        }
+    }
+
+    private static int firstByte(Boolean flag, Integer count) {
+        if (count > MAX_ENCODE_LENGTH) {
+            throw new InvalidParameterException(String.format("Payload can not be longer than %d", MAX_ENCODE_LENGTH));
+        }
+        if (flag) {
+            return 1 << 7 | count.byteValue();
+        }
+        return count.byteValue();
+    }
+
+    /**
+     * Run statistics of a compression call.
+     */
+    private static class RunStats {
+        private int sameCount;
+        private int sameMax;
+        private long sameTotal;
+        private int diffCount;
+        private int diffMax;
+        private long diffTotal;
+
+        void countSame(int count) {
+            sameCount++;
+            sameMax = Math.max(sameMax, count);
+            sameTotal += count;
+        }
+
+        void countDiff(int count) {
+            diffCount++;
+            diffMax = Math.max(diffMax, count);
+            diffTotal += count;
+        }
+
+        void add(RunStats other) {
+            sameCount += other.sameCount;
+            sameMax = Math.max(sameMax, other.sameMax);
+            sameTotal += other.sameTotal;
+            diffCount += other.diffCount;
+            diffMax = Math.max(diffMax, other.diffMax);
+            diffTotal += other.diffTotal;
+        }
+
+        CompressionStats toStats(Mode mode) {
+            return new CompressionStats(Map.of(
+                    "mode", mode,
+                    "same count", sameCount,
+                    "same max", sameMax,
+                    "same average", sameCount == 0 ? 0. : (double) sameTotal / sameCount,
+                    "diff count", diffCount,
+                    "diff max", diffMax,
+                    "diff average", diffCount == 0 ? 0. : (double) diffTotal / diffCount
+            ));
+        }
+    }
+}
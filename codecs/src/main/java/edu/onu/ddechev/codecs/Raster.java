@@ -0,0 +1,71 @@
+package edu.onu.ddechev.codecs;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+
+/**
+ * Uncompressed image: {@code width * height} pixels of {@code channels} interleaved bytes each, stored row by row
+ * without padding.
+ */
+public final class Raster {
+
+    public static final int RGB = 3;
+
+    private final int width;
+    private final int height;
+    private final int channels;
+    private final byte[] data;
+
+    public Raster(int width, int height, int channels) {
+        this(width, height, channels, new byte[checkSize(width, height, channels)]);
+    }
+
+    public Raster(int width, int height, int channels, byte[] data) {
+        if (checkSize(width, height, channels) != data.length) {
+            throw new InvalidParameterException(String.format("%dx%d raster of %d channels should have %d bytes instead of %d",
+                    width, height, channels, width * height * channels, data.length));
+        }
+        this.width = width;
+        this.height = height;
+        this.channels = channels;
+        this.data = data;
+    }
+
+    private static int checkSize(int width, int height, int channels) {
+        if (width < 0 || height < 0 || channels < 1) {
+            throw new InvalidParameterException(String.format("Invalid raster %dx%d of %d channels", width, height, channels));
+        }
+        long size = (long) width * height * channels;
+        if (size > Integer.MAX_VALUE) {
+            throw new InvalidParameterException(String.format("Raster %dx%d of %d channels is too large", width, height, channels));
+        }
+        return (int) size;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public int getRowSize() {
+        return width * channels;
+    }
+
+    /**
+     * Backing array, changes are visible in the raster.
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(data);
+    }
+}
@@ -0,0 +1,230 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * Reads uncompressed BMP and binary PPM/PGM files into RGB rasters. Files are memory mapped and pixels are copied
+ * once from the mapping into the raster.
+ * <p>
+ * Supported BMP variants: 1, 4 and 8 bit with palette, 24 bit, 32 bit without compression or with bit fields,
+ * both bottom-up and top-down row order.
+ */
+public class RasterFiles {
+
+    private static final int BI_RGB = 0;
+    private static final int BI_BITFIELDS = 3;
+
+    private RasterFiles() {
+    }
+
+    public static Raster read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static Raster read(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() >= 2 && buffer.get(buffer.position()) == 'B' && buffer.get(buffer.position() + 1) == 'M') {
+            return readBmp(buffer);
+        }
+        if (buffer.remaining() >= 2 && buffer.get(buffer.position()) == 'P') {
+            return readPpm(buffer);
+        }
+        throw new IOException("Unknown image format");
+    }
+
+    static Raster readBmp(ByteBuffer source) throws IOException {
+        ByteBuffer buffer = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            int pixelsOffset = buffer.getInt(10);
+            int headerSize = buffer.getInt(14);
+            if (headerSize < 40) {
+                throw new IOException(String.format("Unsupported BMP header of %d bytes", headerSize));
+            }
+            int width = buffer.getInt(18);
+            int height = buffer.getInt(22);
+            int bitsPerPixel = buffer.getShort(28);
+            int compression = buffer.getInt(30);
+            boolean bottomUp = height > 0;
+            height = Math.abs(height);
+            if (compression != BI_RGB && !(compression == BI_BITFIELDS && bitsPerPixel == 32)) {
+                throw new IOException(String.format("Unsupported BMP compression %d", compression));
+            }
+            Raster raster = new Raster(width, height, Raster.RGB);
+            int stride = (int) (((long) width * bitsPerPixel + 31) / 32 * 4);
+            if ((long) pixelsOffset + (long) stride * height > buffer.limit()) {
+                throw new IOException("BMP pixel data is truncated");
+            }
+            byte[] row = new byte[stride];
+            byte[] data = raster.getData();
+            int rowSize = raster.getRowSize();
+            RowDecoder decoder = bmpRowDecoder(buffer, 14 + headerSize, bitsPerPixel, compression, width);
+            for (int y = 0; y < height; y++) {
+                buffer.position(pixelsOffset + (bottomUp ? height - 1 - y : y) * stride);
+                buffer.get(row);
+                decoder.decode(row, data, y * rowSize);
+            }
+            return raster;
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IOException("BMP file is truncated", e);
+        }
+    }
+
+    private static RowDecoder bmpRowDecoder(ByteBuffer buffer, int paletteOffset, int bitsPerPixel, int compression, int width) throws IOException {
+        switch (bitsPerPixel) {
+            case 1:
+            case 4:
+            case 8:
+                int colorsUsed = buffer.getInt(46);
+                byte[] palette = new byte[3 << bitsPerPixel];
+                int colors = colorsUsed == 0 ? 1 << bitsPerPixel : Math.min(colorsUsed, 1 << bitsPerPixel);
+                for (int i = 0; i < colors; i++) {
+                    palette[i * 3] = buffer.get(paletteOffset + i * 4 + 2);
+                    palette[i * 3 + 1] = buffer.get(paletteOffset + i * 4 + 1);
+                    palette[i * 3 + 2] = buffer.get(paletteOffset + i * 4);
+                }
+                int mask = (1 << bitsPerPixel) - 1;
+                int pixelsPerByte = 8 / bitsPerPixel;
+                return (row, data, offset) -> {
+                    for (int x = 0; x < width; x++) {
+                        int shift = 8 - bitsPerPixel * (x % pixelsPerByte + 1);
+                        int color = (row[x / pixelsPerByte] >> shift & mask) * 3;
+                        data[offset++] = palette[color];
+                        data[offset++] = palette[color + 1];
+                        data[offset++] = palette[color + 2];
+                    }
+                };
+            case 24:
+                return (row, data, offset) -> {
+                    for (int x = 0; x < width * 3; x += 3) {
+                        data[offset++] = row[x + 2];
+                        data[offset++] = row[x + 1];
+                        data[offset++] = row[x];
+                    }
+                };
+            case 32:
+                if (compression == BI_BITFIELDS) {
+                    ChannelMask red = new ChannelMask(buffer.getInt(54));
+                    ChannelMask green = new ChannelMask(buffer.getInt(58));
+                    ChannelMask blue = new ChannelMask(buffer.getInt(62));
+                    return (row, data, offset) -> {
+                        ByteBuffer words = ByteBuffer.wrap(row).order(ByteOrder.LITTLE_ENDIAN);
+                        for (int x = 0; x < width; x++) {
+                            int pixel = words.getInt(x * 4);
+                            data[offset++] = red.apply(pixel);
+                            data[offset++] = green.apply(pixel);
+                            data[offset++] = blue.apply(pixel);
+                        }
+                    };
+                }
+                return (row, data, offset) -> {
+                    for (int x = 0; x < width * 4; x += 4) {
+                        data[offset++] = row[x + 2];
+                        data[offset++] = row[x + 1];
+                        data[offset++] = row[x];
+                    }
+                };
+            default:
+                throw new IOException(String.format("Unsupported BMP pixel depth %d", bitsPerPixel));
+        }
+    }
+
+    /**
+     * Reads binary PPM (P6) and PGM (P5) files with maximum value up to 255, gray pixels are expanded to RGB.
+     * Samples are rescaled to 0..255 when the maximum value is smaller.
+     */
+    static Raster readPpm(ByteBuffer source) throws IOException {
+        ByteBuffer buffer = source.slice();
+        try {
+            buffer.get();
+            byte type = buffer.get();
+            if (type != '5' && type != '6') {
+                throw new IOException(String.format("Unsupported PNM type P%c", type));
+            }
+            int width = readPnmNumber(buffer);
+            int height = readPnmNumber(buffer);
+            int maxValue = readPnmNumber(buffer);
+            buffer.get();
+            if (maxValue < 1 || maxValue > 255) {
+                throw new IOException(String.format("Unsupported PNM maximum value %d", maxValue));
+            }
+            Raster raster = new Raster(width, height, Raster.RGB);
+            byte[] data = raster.getData();
+            if (type == '6') {
+                buffer.get(data);
+            } else {
+                byte[] row = new byte[width];
+                for (int y = 0; y < height; y++) {
+                    buffer.get(row);
+                    for (int x = 0, offset = y * raster.getRowSize(); x < width; x++) {
+                        data[offset++] = row[x];
+                        data[offset++] = row[x];
+                        data[offset++] = row[x];
+                    }
+                }
+            }
+            if (maxValue != 255) {
+                byte[] scale = new byte[256];
+                for (int v = 0; v < scale.length; v++) {
+                    scale[v] = (byte) ((Math.min(v, maxValue) * 255 + maxValue / 2) / maxValue);
+                }
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = scale[data[i] & 0xFF];
+                }
+            }
+            return raster;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("PNM file is truncated", e);
+        }
+    }
+
+    private static int readPnmNumber(ByteBuffer buffer) throws IOException {
+        int c = buffer.get();
+        while (Character.isWhitespace(c) || c == '#') {
+            if (c == '#') {
+                while (c != '\n' && c != '\r') {
+                    c = buffer.get();
+                }
+            }
+            c = buffer.get();
+        }
+        int value = 0;
+        if (c < '0' || c > '9') {
+            throw new IOException("Malformed PNM header");
+        }
+        while (c >= '0' && c <= '9') {
+            value = value * 10 + c - '0';
+            if (value > 1 << 24) {
+                throw new IOException("Malformed PNM header");
+            }
+            c = buffer.get();
+        }
+        buffer.position(buffer.position() - 1);
+        return value;
+    }
+
+    private interface RowDecoder {
+        void decode(byte[] row, byte[] data, int offset);
+    }
+
+    private static class ChannelMask {
+        private final int mask;
+        private final int shift;
+        private final int max;
+
+        ChannelMask(int mask) {
+            this.mask = mask;
+            this.shift = mask == 0 ? 0 : Integer.numberOfTrailingZeros(mask);
+            this.max = mask >>> shift;
+        }
+
+        byte apply(int pixel) {
+            return max == 0 ? 0 : (byte) (((pixel & mask) >>> shift) * 255L / max);
+        }
+    }
+}
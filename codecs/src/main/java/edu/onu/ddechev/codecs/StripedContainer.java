@@ -0,0 +1,155 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Container which cuts an image into horizontal strips of {@code stripRows} rows and compresses every strip
+ * with the wrapped codec independently, strips are coded and restored in parallel on the common ForkJoinPool,
+ * restored strips are written straight into the output buffer.
+ * Plain data without rows is cut into strips of {@value DEFAULT_STRIP_SIZE} bytes, a whole number of pixels.
+ * <p>
+ * Stream layout: data length, strip size in bytes, strips count (int each), compressed size of every strip (int each), strips.
+ */
+public class StripedContainer implements Codec {
+
+    static final int DEFAULT_STRIP_ROWS = 64;
+    static final int DEFAULT_STRIP_SIZE = 3 << 18;
+    private static final int INDEX_HEADER_SIZE = 3 * Integer.BYTES;
+
+    private final Codec codec;
+    private final int stripRows;
+
+    public StripedContainer(Codec codec) {
+        this(codec, DEFAULT_STRIP_ROWS);
+    }
+
+    public StripedContainer(Codec codec, int stripRows) {
+        if (stripRows < 1) {
+            throw new InvalidParameterException("Strip should have at least one row");
+        }
+        this.codec = codec;
+        this.stripRows = stripRows;
+    }
+
+    @Override
+    public String getName() {
+        return String.format("Striped %s", codec.getName());
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) {
+        return compress(data, DEFAULT_STRIP_SIZE, 0, 0);
+    }
+
+    @Override
+    public CodecResult compress(byte[] data, int width) {
+        return compress(data, Math.max(1, stripRows * width * 3), stripRows, width);
+    }
+
+    private CodecResult compress(byte[] data, int stripSize, int rows, int width) {
+        int count = (data.length + stripSize - 1) / stripSize;
+        byte[][] strips = IntStream.range(0, count).parallel()
+                .mapToObj(i -> compressStrip(data, i * stripSize, Math.min(data.length, (i + 1) * stripSize), width))
+                .toArray(byte[][]::new);
+        int indexSize = (3 + count) * Integer.BYTES;
+        int size = indexSize;
+        for (byte[] strip : strips) {
+            size += strip.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(data.length).putInt(stripSize).putInt(count);
+        for (byte[] strip : strips) {
+            buffer.putInt(strip.length);
+        }
+        for (byte[] strip : strips) {
+            buffer.put(strip);
+        }
+        return new CodecResult(buffer.array(), new CompressionStats(Map.of(
+                "codec", codec.getName(),
+                "strip rows", rows,
+                "strip size, bytes", stripSize,
+                "strips count", count,
+                "strip index size, bytes", indexSize
+        )));
+    }
+
+    private byte[] compressStrip(byte[] data, int from, int to, int width) {
+        byte[] strip = new byte[to - from];
+        System.arraycopy(data, from, strip, 0, strip.length);
+        try {
+            return width == 0 ? codec.compress(strip).getData() : codec.compress(strip, width).getData();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        byte[] restored = new byte[new StripIndex(compressed, 0).length];
+        restore(compressed, restored);
+        return restored;
+    }
+
+    @Override
+    public void restore(byte[] compressed, byte[] restored) {
+        StripIndex index = new StripIndex(compressed, 0);
+        if (index.length != restored.length) {
+            throw new IllegalStateException(String.format("Restored data has %d bytes instead of %d", index.length, restored.length));
+        }
+        IntStream.range(0, index.count).parallel().forEach(i -> {
+            byte[] strip = restoreStrip(compressed, index, i);
+            System.arraycopy(strip, 0, restored, i * index.stripSize, strip.length);
+        });
+    }
+
+    private byte[] restoreStrip(byte[] compressed, StripIndex index, int i) {
+        byte[] strip = new byte[Math.min(index.stripSize, index.length - i * index.stripSize)];
+        byte[] stripData = new byte[index.offsets[i + 1] - index.offsets[i]];
+        System.arraycopy(compressed, index.offsets[i], stripData, 0, stripData.length);
+        try {
+            codec.restore(stripData, strip);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return strip;
+    }
+
+    private static class StripIndex {
+        private final int length;
+        private final int stripSize;
+        private final int count;
+        private final int[] offsets;
+
+        StripIndex(byte[] compressed, int offset) {
+            if (compressed.length - offset < INDEX_HEADER_SIZE) {
+                throw new IllegalStateException("Unexpected end of strip index");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(compressed);
+            buffer.position(offset);
+            length = buffer.getInt();
+            stripSize = buffer.getInt();
+            count = buffer.getInt();
+            if (length < 0 || stripSize < 1 || count != (int) (((long) length + stripSize - 1) / stripSize)) {
+                throw new IllegalStateException(String.format("Invalid strip index of %d strips of %d bytes for %d bytes of data",
+                        count, stripSize, length));
+            }
+            if (count > buffer.remaining() / Integer.BYTES) {
+                throw new IllegalStateException(String.format("Strip index of %d strips does not fit into the data", count));
+            }
+            offsets = new int[count + 1];
+            offsets[0] = buffer.position() + count * Integer.BYTES;
+            for (int i = 0; i < count; i++) {
+                int stripLength = buffer.getInt();
+                if (stripLength < 0 || stripLength > compressed.length - offsets[i]) {
+                    throw new IllegalStateException(String.format("Strip %d of %d bytes does not fit into the data", i, stripLength));
+                }
+                offsets[i + 1] = offsets[i] + stripLength;
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package edu.onu.ddechev.codecs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Container which cuts an image into square tiles of {@code tileSize} pixels and compresses every tile with the
+ * wrapped codec independently. The tile index allows to decode a region of the image touching only the tiles which
+ * intersect it, see {@link #restoreRegion(ByteBuffer, int, int, int, int)}.
+ * Plain data without rows is treated as an image of a single row.
+ * <p>
+ * Stream layout: width, height, tile size (int each), compressed size of every tile in row-major order (int each), tiles.
+ */
+public class TiledContainer implements Codec {
+
+    static final int DEFAULT_TILE_SIZE = 256;
+    private static final int INDEX_HEADER_SIZE = 3 * Integer.BYTES;
+
+    private final Codec codec;
+    private final int tileSize;
+
+    public TiledContainer(Codec codec) {
+        this(codec, DEFAULT_TILE_SIZE);
+    }
+
+    public TiledContainer(Codec codec, int tileSize) {
+        if (tileSize < 1) {
+            throw new InvalidParameterException("Tile should have at least one pixel");
+        }
+        this.codec = codec;
+        this.tileSize = tileSize;
+    }
+
+    @Override
+    public String getName() {
+        return String.format("Tiled %s", codec.getName());
+    }
+
+    @Override
+    public CodecResult compress(byte[] data) {
+        if (data.length % 3 != 0) {
+            throw new InvalidParameterException(String.format("Data length %d is not a whole number of pixels", data.length));
+        }
+        return compress(data, data.length / 3);
+    }
+
+    @Override
+    public CodecResult compress(byte[] data, int width) {
+        int height = width == 0 ? 0 : data.length / (width * 3);
+        if (width * height * 3 != data.length) {
+            throw new InvalidParameterException(String.format("Data length %d is not a whole number of rows of %d pixels", data.length, width));
+        }
+        TileIndex layout = new TileIndex(width, height, tileSize);
+        byte[][] tiles = IntStream.range(0, layout.count).parallel()
+                .mapToObj(i -> compressTile(data, layout, i))
+                .toArray(byte[][]::new);
+        int indexSize = INDEX_HEADER_SIZE + layout.count * Integer.BYTES;
+        int size = indexSize;
+        for (byte[] tile : tiles) {
+            size += tile.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(width).putInt(height).putInt(tileSize);
+        for (byte[] tile : tiles) {
+            buffer.putInt(tile.length);
+        }
+        for (byte[] tile : tiles) {
+            buffer.put(tile);
+        }
+        return new CodecResult(buffer.array(), new CompressionStats(Map.of(
+                "codec", codec.getName(),
+                "tile size", tileSize,
+                "tiles count", layout.count,
+                "tile index size, bytes", indexSize
+        )));
+    }
+
+    private byte[] compressTile(byte[] data, TileIndex layout, int i) {
+        int x = layout.tileX(i);
+        int y = layout.tileY(i);
+        int rowSize = layout.tileWidth(x) * 3;
+        int rows = layout.tileHeight(y);
+        byte[] tile = new byte[rowSize * rows];
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(data, ((y + row) * layout.width + x) * 3, tile, row * rowSize, rowSize);
+        }
+        try {
+            return codec.compress(tile, rowSize / 3).getData();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] restore(byte[] compressed) {
+        byte[] restored = new byte[new TileIndex(ByteBuffer.wrap(compressed), 0).size()];
+        restore(compressed, restored);
+        return restored;
+    }
+
+    @Override
+    public void restore(byte[] compressed, byte[] restored) {
+        ByteBuffer buffer = ByteBuffer.wrap(compressed);
+        TileIndex index = new TileIndex(buffer, 0);
+        if (index.size() != restored.length) {
+            throw new IllegalStateException(String.format("Restored data has %d bytes instead of %d", index.size(), restored.length));
+        }
+        restoreRegion(buffer, index, 0, 0, index.width, index.height, restored);
+    }
+
+    /**
+     * Restores a region of an image compressed by this container, only the tiles intersecting the region are read
+     * and decoded. The buffer holds the whole compressed image starting at its position and is never modified,
+     * so a {@link java.nio.MappedByteBuffer} of a compressed file may be passed directly.
+     */
+    public Raster restoreRegion(ByteBuffer compressed, int x, int y, int width, int height) {
+        int offset = compressed.position() + HEADER_SIZE;
+        TileIndex index = new TileIndex(compressed, offset);
+        int headerWidth = compressed.getInt(compressed.position());
+        int headerHeight = compressed.getInt(compressed.position() + Integer.BYTES);
+        if (index.width != headerWidth || index.height != headerHeight) {
+            throw new IllegalStateException(String.format("Tile index of %dx%d image does not match %dx%d header",
+                    index.width, index.height, headerWidth, headerHeight));
+        }
+        if (x < 0 || y < 0 || width < 1 || height < 1 || x + width > index.width || y + height > index.height) {
+            throw new InvalidParameterException(String.format("Region %dx%d at (%d, %d) is outside of %dx%d image",
+                    width, height, x, y, index.width, index.height));
+        }
+        Raster raster = new Raster(width, height, Raster.RGB);
+        restoreRegion(compressed, index, x, y, width, height, raster.getData());
+        return raster;
+    }
+
+    public Raster restoreRegion(byte[] compressed, int x, int y, int width, int height) {
+        return restoreRegion(ByteBuffer.wrap(compressed), x, y, width, height);
+    }
+
+    private void restoreRegion(ByteBuffer compressed, TileIndex index, int x, int y, int width, int height, byte[] restored) {
+        if (width == 0 || height == 0) {
+            return;
+        }
+        int firstColumn = x / index.tileSize;
+        int lastColumn = (x + width - 1) / index.tileSize;
+        int firstRow = y / index.tileSize;
+        int lastRow = (y + height - 1) / index.tileSize;
+        int columns = lastColumn - firstColumn + 1;
+        IntStream.range(0, columns * (lastRow - firstRow + 1)).parallel().forEach(i -> {
+            int tile = (firstRow + i / columns) * index.columns + firstColumn + i % columns;
+            int tileX = index.tileX(tile);
+            int tileY = index.tileY(tile);
+            int tileRowSize = index.tileWidth(tileX) * 3;
+            byte[] data = restoreTile(compressed, index, tile, tileRowSize * index.tileHeight(tileY));
+            int fromX = Math.max(x, tileX);
+            int toX = Math.min(x + width, tileX + index.tileWidth(tileX));
+            int toY = Math.min(y + height, tileY + index.tileHeight(tileY));
+            for (int row = Math.max(y, tileY); row < toY; row++) {
+                System.arraycopy(data, (row - tileY) * tileRowSize + (fromX - tileX) * 3,
+                        restored, ((row - y) * width + fromX - x) * 3, (toX - fromX) * 3);
+            }
+        });
+    }
+
+    private byte[] restoreTile(ByteBuffer compressed, TileIndex index, int tile, int size) {
+        byte[] tileData = new byte[index.offsets[tile + 1] - index.offsets[tile]];
+        ByteBuffer source = compressed.duplicate();
+        source.position(index.offsets[tile]);
+        source.get(tileData);
+        byte[] data = new byte[size];
+        try {
+            codec.restore(tileData, data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return data;
+    }
+
+    private static class TileIndex {
+        private final int width;
+        private final int height;
+        private final int tileSize;
+        private final int columns;
+        private final int count;
+        private final int[] offsets;
+
+        TileIndex(int width, int height, int tileSize) {
+            this.width = width;
+            this.height = height;
+            this.tileSize = tileSize;
+            columns = (width + tileSize - 1) / tileSize;
+            count = columns * ((height + tileSize - 1) / tileSize);
+            offsets = null;
+        }
+
+        TileIndex(ByteBuffer compressed, int offset) {
+            width = compressed.getInt(offset);
+            height = compressed.getInt(offset + Integer.BYTES);
+            tileSize = compressed.getInt(offset + 2 * Integer.BYTES);
+            if (width < 0 || height < 0 || tileSize < 1) {
+                throw new IllegalStateException(String.format("Invalid tile index of %dx%d image with tile size %d", width, height, tileSize));
+            }
+            long tileColumns = ((long) width + tileSize - 1) / tileSize;
+            long tiles = tileColumns * (((long) height + tileSize - 1) / tileSize);
+            if (tiles > (compressed.limit() - offset - INDEX_HEADER_SIZE) / Integer.BYTES) {
+                throw new IllegalStateException(String.format("Tile index of %d tiles does not fit into the data", tiles));
+            }
+            columns = (int) tileColumns;
+            count = (int) tiles;
+            offsets = new int[count + 1];
+            offsets[0] = offset + INDEX_HEADER_SIZE + count * Integer.BYTES;
+            for (int i = 0; i < count; i++) {
+                int tileLength = compressed.getInt(offset + INDEX_HEADER_SIZE + i * Integer.BYTES);
+                if (tileLength < 0 || tileLength > compressed.limit() - offsets[i]) {
+                    throw new IllegalStateException(String.format("Tile %d of %d bytes does not fit into the data", i, tileLength));
+                }
+                offsets[i + 1] = offsets[i] + tileLength;
+            }
+        }
+
+        /**
+         * Size of the restored image, bytes.
+         */
+        int size() {
+            long size = (long) width * height * 3;
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException(String.format("Image %dx%d is too large", width, height));
+            }
+            return (int) size;
+        }
+
+        int tileX(int tile) {
+            return tile % columns * tileSize;
+        }
+
+        int tileY(int tile) {
+            return tile / columns * tileSize;
+        }
+
+        int tileWidth(int tileX) {
+            return Math.min(tileSize, width - tileX);
+        }
+
+        int tileHeight(int tileY) {
+            return Math.min(tileSize, height - tileY);
+        }
+    }
+}
@@ -0,0 +1,3 @@
+module edu.onu.ddechev.codecs {
+    exports edu.onu.ddechev.codecs;
+}
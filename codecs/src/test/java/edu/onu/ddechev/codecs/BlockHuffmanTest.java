@@ -0,0 +1,40 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+public class BlockHuffmanTest {
+
+    @Test
+    public void endToEndTest() throws IOException {
+        Random random = new Random();
+        for (int length = 0; length <= 100000; length += 3333) {
+            byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = (byte) (random.nextGaussian() * (1 + i / 1000));
+            }
+            BlockHuffman huffman = new BlockHuffman(BlockHuffman.MIN_BLOCK_SIZE + length % 7);
+            Assertions.assertArrayEquals(data, huffman.restore(huffman.compress(data).getData()));
+        }
+    }
+
+    @Test
+    public void mixedContentTest() throws IOException {
+        Random random = new Random();
+        int blockSize = BlockHuffman.DEFAULT_BLOCK_SIZE;
+        byte[] data = new byte[blockSize * 4];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ((i / blockSize) % 2 == 0 ? random.nextInt() : i % 4);
+        }
+        BlockHuffman huffman = new BlockHuffman();
+        CodecResult result = huffman.compress(data);
+        byte[] compressed = result.getData();
+        Assertions.assertEquals(4, result.getStats().get("blocks count"));
+        Assertions.assertEquals(2, result.getStats().get("stored blocks count"));
+        Assertions.assertTrue(compressed.length < new CanonicalHuffman().compress(data).getData().length);
+        Assertions.assertArrayEquals(data, huffman.restore(compressed));
+    }
+}
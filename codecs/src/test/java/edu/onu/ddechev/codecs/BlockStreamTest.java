@@ -0,0 +1,62 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class BlockStreamTest {
+
+    @Test
+    public void endToEndTest() throws IOException {
+        Random random = new Random();
+        byte[] data = new byte[2 * BlockStream.BLOCK_SIZE + 300];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) random.nextInt(i % 1000 < 500 ? 4 : 256);
+        }
+        for (Codec codec : List.of(new RLE(), new LZW(), new BlockHuffman())) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            CompressionStats stats = codec.compress(Channels.newChannel(new ByteArrayInputStream(data)), Channels.newChannel(compressed));
+            Assertions.assertEquals(3, stats.get("blocks count"));
+            Assertions.assertEquals((long) compressed.size(), stats.get("compressed size, bytes"));
+            ByteArrayOutputStream restored = new ByteArrayOutputStream();
+            codec.restore(Channels.newChannel(new ByteArrayInputStream(compressed.toByteArray())), Channels.newChannel(restored));
+            Assertions.assertArrayEquals(data, restored.toByteArray(), codec.getName());
+        }
+    }
+
+    @Test
+    public void rowsTest() throws IOException {
+        int width = 40000;
+        byte[] data = new byte[width * 3 * 30];
+        Arrays.fill(data, (byte) 7);
+        Codec codec = new StripedContainer(new RLE(), 8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        CompressionStats stats = codec.compress(Channels.newChannel(new ByteArrayInputStream(data)), Channels.newChannel(compressed), width);
+        Assertions.assertEquals(26 * width * 3, stats.get("block size, bytes"));
+        ByteArrayOutputStream restored = new ByteArrayOutputStream();
+        codec.restore(Channels.newChannel(new ByteArrayInputStream(compressed.toByteArray())), Channels.newChannel(restored));
+        Assertions.assertArrayEquals(data, restored.toByteArray());
+        byte[] truncated = Arrays.copyOf(compressed.toByteArray(), compressed.size() - 1);
+        Assertions.assertThrows(EOFException.class, () ->
+                codec.restore(Channels.newChannel(new ByteArrayInputStream(truncated)), Channels.newChannel(new ByteArrayOutputStream())));
+    }
+
+    @Test
+    public void wideRasterTest() {
+        Raster raster = new Raster(40000, 2, Raster.RGB);
+        Arrays.fill(raster.getData(), (byte) 1);
+        Codec codec = new RLE();
+        Raster restored = codec.restoreRaster(codec.compress(raster).getData());
+        Assertions.assertEquals(40000, restored.getWidth());
+        Assertions.assertEquals(2, restored.getHeight());
+        Assertions.assertArrayEquals(raster.getData(), restored.getData());
+    }
+}
@@ -0,0 +1,47 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class ByteScannerTest {
+
+    @Test
+    public void matchLengthTest() {
+        Random random = new Random();
+        for (int test = 0; test < 10000; test++) {
+            byte[] data = new byte[64];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) random.nextInt(2);
+            }
+            int first = random.nextInt(20);
+            int second = first + 1 + random.nextInt(20);
+            int limit = random.nextInt(data.length - second + 1);
+            int expected = 0;
+            while (expected < limit && data[first + expected] == data[second + expected]) {
+                expected++;
+            }
+            Assertions.assertEquals(expected, ByteScanner.matchLength(data, first, second, limit));
+        }
+    }
+
+    @Test
+    public void findRepeatTest() {
+        Random random = new Random();
+        for (int test = 0; test < 10000; test++) {
+            byte[] data = new byte[64];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) (random.nextInt(40) == 0 ? 0 : i * 0x11 + 0x80);
+            }
+            int distance = 1 + random.nextInt(3);
+            int from = random.nextInt(20);
+            int to = from + random.nextInt(data.length - distance - from + 1);
+            int expected = from;
+            while (expected < to && data[expected] != data[expected + distance]) {
+                expected++;
+            }
+            Assertions.assertEquals(expected, ByteScanner.findRepeat(data, from, to, distance));
+        }
+    }
+}
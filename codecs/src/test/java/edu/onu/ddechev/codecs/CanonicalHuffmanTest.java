@@ -0,0 +1,97 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+public class CanonicalHuffmanTest {
+
+    @Test
+    public void endToEndTest1() throws IOException {
+        byte[] data = "ABCDEABCDEABCDEABCDEABCDEACDEACDEACDEADEADEDDD".getBytes(StandardCharsets.UTF_8);
+        CanonicalHuffman huffman = new CanonicalHuffman();
+        CodecResult result = huffman.compress(data);
+        byte[] compressed = result.getData();
+        Assertions.assertArrayEquals(data, huffman.restore(compressed));
+    }
+
+    @Test
+    public void monotoneTest() throws IOException {
+        byte[] data = new byte[3 * 64 * 64];
+        Arrays.fill(data, (byte) 0x7F);
+        CanonicalHuffman huffman = new CanonicalHuffman();
+        byte[] compressed = huffman.compress(data).getData();
+        Assertions.assertEquals(4 + 1 + 6 + data.length / 8, compressed.length);
+        Assertions.assertArrayEquals(data, huffman.restore(compressed));
+    }
+
+    @Test
+    public void emptyTest() throws IOException {
+        CanonicalHuffman huffman = new CanonicalHuffman();
+        Assertions.assertArrayEquals(new byte[0], huffman.restore(huffman.compress(new byte[0]).getData()));
+    }
+
+    @Test
+    public void endToEndTest() throws IOException {
+        CanonicalHuffman huffman = new CanonicalHuffman();
+        Random random = new Random();
+        for (int length = 1000; length <= 100000; length += 1000) {
+            byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = (byte) (random.nextGaussian() * length / 5000);
+            }
+            byte[] compressed = huffman.compress(data).getData();
+            Assertions.assertArrayEquals(data, huffman.restore(compressed));
+        }
+    }
+
+    @Test
+    public void lengthsTest() {
+        Random random = new Random();
+        for (int attempt = 0; attempt < 100; attempt++) {
+            int[] lengths = new int[256];
+            double kraft = 0;
+            for (int i = 0; i < lengths.length; i++) {
+                int length = random.nextInt(attempt % 2 == 0 ? 16 : 40);
+                if (length > 0 && kraft + Math.pow(2, -length) <= 1) {
+                    lengths[i] = length;
+                    kraft += Math.pow(2, -length);
+                }
+            }
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            CanonicalHuffman.writeLengths(stream, lengths);
+            Assertions.assertArrayEquals(lengths, CanonicalHuffman.readLengths(ByteBuffer.wrap(stream.toByteArray())));
+        }
+    }
+
+    @Test
+    public void oversubscribedTest() {
+        int[] lengths = new int[256];
+        lengths['A'] = 1;
+        lengths['B'] = 1;
+        lengths['C'] = 2;
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        CanonicalHuffman.writeLengths(stream, lengths);
+        Assertions.assertThrows(IllegalStateException.class, () -> CanonicalHuffman.readLengths(ByteBuffer.wrap(stream.toByteArray())));
+    }
+
+    @Test
+    public void canonicalCodesTest() {
+        int[] lengths = new int[256];
+        lengths['A'] = 2;
+        lengths['B'] = 1;
+        lengths['C'] = 3;
+        lengths['D'] = 3;
+        int[] codes = Huffman.canonicalCodes(lengths);
+        Assertions.assertEquals(0b10, codes['A']);
+        Assertions.assertEquals(0b0, codes['B']);
+        Assertions.assertEquals(0b110, codes['C']);
+        Assertions.assertEquals(0b111, codes['D']);
+    }
+}
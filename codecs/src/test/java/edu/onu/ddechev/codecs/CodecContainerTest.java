@@ -0,0 +1,58 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.Random;
+
+public class CodecContainerTest {
+
+    @Test
+    public void endToEndTest() throws IOException {
+        Raster raster = randomRaster(700, 600);
+        for (Codec codec : Codec.IMPLEMENTATIONS) {
+            CodecResult result = CodecContainer.compress(codec, raster);
+            Assertions.assertEquals(2, result.getStats().get("chunks count"), codec.getName());
+            Assertions.assertEquals(CodecRegistry.getId(codec), CodecRegistry.getId(CodecContainer.getCodec(ByteBuffer.wrap(result.getData()))));
+            CodecContainer.verify(ByteBuffer.wrap(result.getData()));
+            Raster restored = CodecContainer.restoreRaster(result.getData());
+            Assertions.assertEquals(raster.getWidth(), restored.getWidth());
+            Assertions.assertEquals(raster.getHeight(), restored.getHeight());
+            Assertions.assertArrayEquals(raster.getData(), restored.getData(), codec.getName());
+        }
+    }
+
+    @Test
+    public void plainDataTest() throws IOException {
+        byte[] data = randomRaster(1000, 1000).getData();
+        byte[] compressed = CodecContainer.compress(new LZW(), data).getData();
+        Assertions.assertArrayEquals(data, CodecContainer.restore(compressed));
+        Assertions.assertThrows(IOException.class, () -> CodecContainer.restoreRaster(compressed));
+        Assertions.assertArrayEquals(new byte[0], CodecContainer.restore(CodecContainer.compress(new RLE(), new byte[0]).getData()));
+    }
+
+    @Test
+    public void corruptionTest() {
+        byte[] compressed = CodecContainer.compress(new RLE(), randomRaster(100, 100)).getData();
+        for (int position : new int[]{0, 6, 12, 30, compressed.length - 20, compressed.length - 1}) {
+            byte[] corrupted = compressed.clone();
+            corrupted[position] ^= 4;
+            Assertions.assertThrows(IOException.class, () -> CodecContainer.verify(ByteBuffer.wrap(corrupted)), String.valueOf(position));
+            Assertions.assertThrows(IOException.class, () -> CodecContainer.restoreRaster(corrupted), String.valueOf(position));
+        }
+        Assertions.assertThrows(InvalidParameterException.class, () -> CodecContainer.compress(new StripedContainer(new StripedContainer(new RLE())), new byte[3]));
+    }
+
+    private static Raster randomRaster(int width, int height) {
+        Raster raster = new Raster(width, height, Raster.RGB);
+        byte[] data = raster.getData();
+        Random random = new Random(width);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 999 < 333 ? random.nextInt() : i / raster.getRowSize());
+        }
+        return raster;
+    }
+}
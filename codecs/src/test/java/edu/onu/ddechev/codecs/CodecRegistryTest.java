@@ -0,0 +1,50 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.util.Map;
+
+public class CodecRegistryTest {
+
+    /**
+     * Identifiers are stored in files, changing any of them breaks reading of existing files.
+     */
+    private static final Map<Integer, String> NAMES = Map.ofEntries(
+            Map.entry(1, "NoOp"),
+            Map.entry(2, "RLE"),
+            Map.entry(3, "LZW"),
+            Map.entry(4, "Huffman"),
+            Map.entry(5, "CanonicalHuffman"),
+            Map.entry(6, "InterleavedHuffman"),
+            Map.entry(7, "BlockHuffman"),
+            Map.entry(8, "PredictiveFilter"),
+            Map.entry(9, "YCoCg-R"),
+            Map.entry(10, "SubtractGreen"),
+            Map.entry(11, "LZ77"),
+            Map.entry(1 << 8 | 3, "Striped LZW"),
+            Map.entry(2 << 8 | 3, "Tiled LZW"),
+            Map.entry(1 << 8 | 11, "Striped LZ77"),
+            Map.entry(2 << 8 | 11, "Tiled LZ77"),
+            Map.entry(3 << 8, "Pipeline")
+    );
+
+    @Test
+    public void idsTest() {
+        NAMES.forEach((id, name) -> {
+            Codec codec = CodecRegistry.getCodec(id).orElseThrow();
+            Assertions.assertEquals(name, codec.getName());
+            if (id != 3 << 8) {
+                Assertions.assertEquals(id, CodecRegistry.getId(codec));
+            }
+        });
+        Assertions.assertEquals(3 << 8, CodecRegistry.getId(Pipeline.of(new RLE(), new LZW())));
+    }
+
+    @Test
+    public void duplicateTest() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> CodecRegistry.register(1000, new RLE()));
+        Assertions.assertThrows(InvalidParameterException.class, () -> CodecRegistry.register(CodecRegistry.RLE_ID, new NoOp()));
+    }
+}
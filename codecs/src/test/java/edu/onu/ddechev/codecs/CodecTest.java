@@ -0,0 +1,48 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class CodecTest {
+
+    @Test
+    public void sharedInstanceTest() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (Codec codec : Codec.IMPLEMENTATIONS) {
+                List<Callable<Boolean>> tasks = IntStream.range(0, 8)
+                        .mapToObj(seed -> (Callable<Boolean>) () -> {
+                            byte[] data = randomData(seed);
+                            byte[] restored = new byte[data.length];
+                            codec.restore(codec.compress(data).getData(), restored);
+                            return Arrays.equals(data, restored);
+                        })
+                        .collect(Collectors.toList());
+                for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                    Assertions.assertTrue(future.get(), codec.getName());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static byte[] randomData(int seed) {
+        Random random = new Random(seed);
+        byte[] data = new byte[3 * (50000 + seed * 1000)];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) random.nextInt(1 + seed * 30);
+        }
+        return data;
+    }
+}
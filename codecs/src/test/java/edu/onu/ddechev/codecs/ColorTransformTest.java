@@ -0,0 +1,53 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class ColorTransformTest {
+
+    @Test
+    public void allColorsTest() {
+        byte[] data = new byte[256 * 256 * 3 + 2];
+        for (ColorTransform.Transform transform : ColorTransform.Transform.values()) {
+            ColorTransform stage = new ColorTransform(transform);
+            for (int r = 0; r < 256; r++) {
+                for (int i = 0; i < 256 * 256; i++) {
+                    data[i * 3] = (byte) r;
+                    data[i * 3 + 1] = (byte) (i >> 8);
+                    data[i * 3 + 2] = (byte) i;
+                }
+                data[data.length - 1] = (byte) r;
+                byte[] transformed = stage.compress(data).getData();
+                Assertions.assertEquals(data.length, transformed.length);
+                Assertions.assertArrayEquals(data, stage.restore(transformed), transform.toString());
+            }
+        }
+    }
+
+    @Test
+    public void grayTest() {
+        byte[] data = new byte[300];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i / 3);
+        }
+        for (ColorTransform.Transform transform : ColorTransform.Transform.values()) {
+            byte[] transformed = new ColorTransform(transform).compress(data).getData();
+            for (int i = 0; i < data.length; i += 3) {
+                Assertions.assertEquals(0, transformed[transform == ColorTransform.Transform.YCOCG_R ? i + 1 : i]);
+                Assertions.assertEquals(0, transformed[i + 2]);
+            }
+        }
+    }
+
+    @Test
+    public void pipelineRowsTest() {
+        Raster raster = new Raster(50, 40, Raster.RGB);
+        new Random().nextBytes(raster.getData());
+        Codec codec = Pipeline.of(new ColorTransform(ColorTransform.Transform.YCOCG_R), new PredictiveFilter(), new RLE());
+        CodecResult result = codec.compress(raster);
+        Assertions.assertEquals(40, result.getStats().get("2. PredictiveFilter: rows"));
+        Assertions.assertArrayEquals(raster.getData(), codec.restoreRaster(result.getData()).getData());
+    }
+}
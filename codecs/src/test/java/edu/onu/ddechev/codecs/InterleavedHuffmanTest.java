@@ -0,0 +1,48 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public class InterleavedHuffmanTest {
+
+    @Test
+    public void endToEndTest1() throws IOException {
+        byte[] data = "ABCDEABCDEABCDEABCDEABCDEACDEACDEACDEADEADEDDD".getBytes(StandardCharsets.UTF_8);
+        InterleavedHuffman huffman = new InterleavedHuffman();
+        Assertions.assertArrayEquals(data, huffman.restore(huffman.compress(data).getData()));
+    }
+
+    @Test
+    public void endToEndTest() throws IOException {
+        InterleavedHuffman huffman = new InterleavedHuffman();
+        CanonicalHuffman canonicalHuffman = new CanonicalHuffman();
+        Random random = new Random();
+        for (int length = 0; length <= 10000; length += 7) {
+            byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = (byte) (random.nextGaussian() * 10);
+            }
+            byte[] compressed = huffman.compress(data).getData();
+            Assertions.assertArrayEquals(data, huffman.restore(compressed));
+            Assertions.assertTrue(compressed.length <= canonicalHuffman.compress(data).getData().length + 3 * Integer.BYTES + 3);
+        }
+    }
+
+    @Test
+    public void longCodesTest() throws IOException {
+        Random random = new Random();
+        byte[] data = new byte[200000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) Math.min(Math.abs(random.nextGaussian() * 30) + Integer.numberOfLeadingZeros(random.nextInt()), 255);
+        }
+        InterleavedHuffman huffman = new InterleavedHuffman(24);
+        CodecResult result = huffman.compress(data);
+        byte[] compressed = result.getData();
+        Assertions.assertTrue((Integer) result.getStats().get("longest code") > HuffmanDecoder.PRIMARY_BITS);
+        Assertions.assertArrayEquals(data, huffman.restore(compressed));
+    }
+}
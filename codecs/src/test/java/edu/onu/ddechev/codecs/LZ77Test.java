@@ -0,0 +1,77 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidParameterException;
+import java.util.Random;
+
+public class LZ77Test {
+
+    @Test
+    public void endToEndTest() {
+        Random random = new Random(25);
+        byte[][] samples = {
+                new byte[0],
+                new byte[]{7},
+                "ABCDEABCDEABCDEABCDEABCDEACDEACDEACDEADEADEDDD".getBytes(StandardCharsets.UTF_8),
+                new byte[100000],
+                new byte[70000]
+        };
+        random.nextBytes(samples[4]);
+        for (int level = LZ77.MIN_LEVEL; level <= LZ77.MAX_LEVEL; level++) {
+            LZ77 lz77 = new LZ77(level);
+            for (byte[] data : samples) {
+                Assertions.assertArrayEquals(data, lz77.restore(lz77.compress(data).getData()), "level " + level);
+            }
+        }
+    }
+
+    @Test
+    public void overlappingMatchTest() {
+        byte[] data = new byte[5000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 3 == 0 ? 1 : i % 7);
+        }
+        LZ77 lz77 = new LZ77();
+        CodecResult result = lz77.compress(data);
+        Assertions.assertTrue(result.getData().length < 100);
+        Assertions.assertArrayEquals(data, lz77.restore(result.getData()));
+    }
+
+    @Test
+    public void levelsTest() {
+        Raster raster = new Raster(200, 150, Raster.RGB);
+        byte[] data = raster.getData();
+        Random random = new Random(25);
+        byte[] cell = new byte[40];
+        for (int y = 0; y < 150; y++) {
+            if (y % 10 == 0) {
+                random.nextBytes(cell);
+            }
+            for (int x = 0; x < data.length / 150; x++) {
+                data[y * raster.getRowSize() + x] = x % 60 == 0 ? 0 : cell[(x + y) % cell.length];
+            }
+        }
+        int previous = Integer.MAX_VALUE;
+        for (int level : new int[]{LZ77.MIN_LEVEL, LZ77.DEFAULT_LEVEL, LZ77.MAX_LEVEL}) {
+            LZ77 lz77 = new LZ77(level);
+            byte[] compressed = lz77.compress(raster).getData();
+            Assertions.assertTrue(compressed.length <= previous, "level " + level);
+            Assertions.assertArrayEquals(data, lz77.restoreRaster(compressed).getData());
+            previous = compressed.length;
+        }
+    }
+
+    @Test
+    public void invalidTest() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> new LZ77(0));
+        Assertions.assertThrows(InvalidParameterException.class, () -> new LZ77(10));
+        LZ77 lz77 = new LZ77();
+        byte[] compressed = lz77.compress("ABCABCABCABCABC".getBytes(StandardCharsets.UTF_8)).getData();
+        Assertions.assertThrows(IllegalStateException.class, () -> lz77.restore(compressed, new byte[14]));
+        compressed[compressed.length - 1] = 100;
+        Assertions.assertThrows(RuntimeException.class, () -> lz77.restore(compressed));
+    }
+}
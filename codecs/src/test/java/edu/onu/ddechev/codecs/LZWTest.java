@@ -0,0 +1,137 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static edu.onu.ddechev.codecs.Huffman.*;
+import static edu.onu.ddechev.codecs.Huffman.readDict;
+
+public class LZWTest {
+
+    @Test
+    public void endToEndTest1() throws IOException {
+        byte[] data = "ABCDEABCDEABCDEABCDEABCDEACDEACDEACDEADEADEDDD".getBytes(StandardCharsets.UTF_8);
+        LZW lzw = new LZW();
+        byte[] compressed = lzw.compress(data).getData();
+        byte[] restored = lzw.restore(compressed);
+        Assertions.assertArrayEquals(data, restored);
+    }
+
+    @Test
+    public void endToEndTest2() throws IOException {
+        ClassLoader classloader = Thread.currentThread().getContextClassLoader();
+        InputStream is = classloader.getResourceAsStream("test.csv");
+        assert is != null;
+        InputStreamReader streamReader = new InputStreamReader(is, StandardCharsets.UTF_8);
+        BufferedReader reader = new BufferedReader(streamReader);
+        List<Byte> bytesList = Arrays.stream(reader.readLine().split(",")).map(s->Byte.valueOf(s.trim())).collect(Collectors.toList());
+        byte[] data = new byte[bytesList.size()];
+        for (int i = 0; i < bytesList.size(); i++) {
+            data[i]=bytesList.get(i);
+        }
+        LZW lzw = new LZW();
+        byte[] compressed = lzw.compress(data).getData();
+        byte[] restored = lzw.restore(compressed);
+        System.out.println(Arrays.toString(data));
+        System.out.println(Arrays.toString(restored));
+        Assertions.assertArrayEquals(data, restored);
+    }
+
+    @Test
+    public void endToEndTest() throws IOException {
+        LZW lzw = new LZW();
+        for (int length = 10000; length <= 20000; length++) {
+            byte[] data = new byte[length];
+            new Random().nextBytes(data);
+            if (length % 1000 == 0) {
+                System.out.println(length);
+            }
+            byte[] compressed = lzw.compress(data).getData();
+            byte[] restored = lzw.restore(compressed);
+            if (data.length != restored.length) {
+                System.out.println(Arrays.toString(data));
+            }
+            Assertions.assertArrayEquals(data, restored);
+        }
+    }
+
+    @Test
+    public void codeLengthTest() throws IOException {
+        Random random = new Random();
+        byte[] data = new byte[300000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 1000 < 500 ? random.nextInt(4) : random.nextInt());
+        }
+        for (int maxCodeLength = LZW.MIN_CODE_LENGTH; maxCodeLength <= LZW.MAX_CODE_LENGTH; maxCodeLength++) {
+            LZW lzw = new LZW(maxCodeLength);
+            CodecResult result = lzw.compress(data);
+            byte[] compressed = result.getData();
+            byte[] restored = lzw.restore(compressed);
+            Assertions.assertEquals(maxCodeLength, result.getStats().get("max code length"));
+            Assertions.assertArrayEquals(data, restored);
+        }
+    }
+
+    @Test
+    public void emptyTest() throws IOException {
+        LZW lzw = new LZW();
+        Assertions.assertArrayEquals(new byte[0], lzw.restore(lzw.compress(new byte[0]).getData()));
+    }
+
+    @Test
+    public void restoreIntoBufferTest() throws IOException {
+        byte[] data = new byte[100000];
+        Random random = new Random();
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) random.nextInt(8);
+        }
+        LZW lzw = new LZW();
+        byte[] compressed = lzw.compress(data).getData();
+        byte[] restored = new byte[data.length];
+        lzw.restore(compressed, restored);
+        Assertions.assertArrayEquals(data, restored);
+        Assertions.assertThrows(IllegalStateException.class, () -> lzw.restore(compressed, new byte[data.length - 1]));
+    }
+
+    @Test
+    public void invalidCodeLengthTest() throws IOException {
+        LZW lzw = new LZW();
+        Assertions.assertThrows(IllegalStateException.class, () -> lzw.restore(new byte[0]));
+        byte[] compressed = lzw.compress("ABCABCABC".getBytes(StandardCharsets.UTF_8)).getData();
+        for (byte maxCodeLength : new byte[]{0, -1, LZW.MIN_CODE_LENGTH - 1, LZW.MAX_CODE_LENGTH + 1}) {
+            compressed[0] = maxCodeLength;
+            Assertions.assertThrows(IllegalStateException.class, () -> lzw.restore(compressed));
+        }
+    }
+
+    @Test
+    public void resetPolicyTest() throws IOException {
+        Random random = new Random(10);
+        byte[] data = new byte[400000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i < data.length / 2 ? random.nextInt(16) : 0x80 + random.nextInt(4));
+        }
+        byte[] stationary = Arrays.copyOf(data, data.length / 2);
+        Map<LZW.ResetPolicy, Integer> clears = new EnumMap<>(LZW.ResetPolicy.class);
+        Map<LZW.ResetPolicy, Integer> stationaryClears = new EnumMap<>(LZW.ResetPolicy.class);
+        for (LZW.ResetPolicy policy : LZW.ResetPolicy.values()) {
+            LZW lzw = new LZW(LZW.MIN_CODE_LENGTH + 1, policy);
+            CodecResult result = lzw.compress(data);
+            byte[] compressed = result.getData();
+            Assertions.assertArrayEquals(data, lzw.restore(compressed));
+            Map<String, Object> properties = result.getStats().getProperties();
+            Assertions.assertEquals(policy, properties.get("reset policy"));
+            Assertions.assertEquals(properties.get("tables count"), (Integer) properties.get("clears count") + 1);
+            clears.put(policy, (Integer) properties.get("clears count"));
+            stationaryClears.put(policy, (Integer) lzw.compress(stationary).getStats().get("clears count"));
+        }
+        Assertions.assertTrue(stationaryClears.get(LZW.ResetPolicy.ADAPTIVE) * 10 < stationaryClears.get(LZW.ResetPolicy.ON_FULL));
+        Assertions.assertTrue(clears.get(LZW.ResetPolicy.ADAPTIVE) > stationaryClears.get(LZW.ResetPolicy.ADAPTIVE));
+    }
+}
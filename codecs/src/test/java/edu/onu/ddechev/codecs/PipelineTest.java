@@ -0,0 +1,38 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.security.InvalidParameterException;
+import java.util.Random;
+
+public class PipelineTest {
+
+    @Test
+    public void endToEndTest() throws IOException {
+        Random random = new Random();
+        byte[] data = new byte[3 * 100000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 3000 < 1500 ? random.nextInt(4) : i / 3000);
+        }
+        Pipeline pipeline = Pipeline.of(new RLE(), new LZW(), new CanonicalHuffman());
+        Assertions.assertEquals("RLE + LZW + CanonicalHuffman", pipeline.getName());
+        CodecResult result = pipeline.compress(data);
+        Assertions.assertEquals(RLE.Mode.PIXEL, result.getStats().get("1. RLE: mode"));
+        Assertions.assertEquals(result.getData().length - 1 - 3 * 2 * Integer.BYTES, result.getStats().get("3. CanonicalHuffman: output size, bytes"));
+        Assertions.assertArrayEquals(data, pipeline.restore(result.getData()));
+        Assertions.assertArrayEquals(data, Pipeline.of(new NoOp()).restore(result.getData()));
+        Assertions.assertThrows(IllegalStateException.class, () -> pipeline.restore(result.getData(), new byte[data.length - 3]));
+    }
+
+    @Test
+    public void rasterTest() throws IOException {
+        Raster raster = new Raster(300, 200, Raster.RGB);
+        new Random().nextBytes(raster.getData());
+        Pipeline pipeline = Pipeline.of(new StripedContainer(new RLE()), new BlockHuffman());
+        Assertions.assertArrayEquals(raster.getData(), pipeline.restoreRaster(pipeline.compress(raster).getData()).getData());
+        Assertions.assertArrayEquals(raster.getData(), CodecContainer.restoreRaster(CodecContainer.compress(pipeline, raster).getData()).getData());
+        Assertions.assertThrows(InvalidParameterException.class, () -> Pipeline.of(new RLE(), new StripedContainer(new StripedContainer(new RLE()))).compress(new byte[3]));
+    }
+}
@@ -0,0 +1,50 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.util.Random;
+
+public class PredictiveFilterTest {
+
+    @Test
+    public void endToEndTest() {
+        Random random = new Random();
+        for (int width = 1; width < 40; width += 9) {
+            byte[] data = new byte[width * 3 * 17];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) (i % 5 == 0 ? random.nextInt() : i / 7);
+            }
+            for (PredictiveFilter.Filter filter : PredictiveFilter.Filter.values()) {
+                PredictiveFilter stage = new PredictiveFilter(filter);
+                CodecResult result = stage.compress(data, width);
+                Assertions.assertEquals(17, result.getStats().get(filter + " rows"));
+                Assertions.assertArrayEquals(data, stage.restore(result.getData()), filter.toString());
+            }
+            PredictiveFilter stage = new PredictiveFilter();
+            Assertions.assertArrayEquals(data, stage.restore(stage.compress(data, width).getData()));
+        }
+        Assertions.assertArrayEquals(new byte[0], new PredictiveFilter().restore(new PredictiveFilter().compress(new byte[0]).getData()));
+        Assertions.assertThrows(InvalidParameterException.class, () -> new PredictiveFilter().compress(new byte[10], 3));
+    }
+
+    @Test
+    public void gradientTest() {
+        Raster raster = new Raster(256, 256, Raster.RGB);
+        byte[] data = raster.getData();
+        for (int y = 0; y < 256; y++) {
+            for (int x = 0; x < 256; x++) {
+                int offset = (y * 256 + x) * 3;
+                data[offset] = (byte) x;
+                data[offset + 1] = (byte) y;
+                data[offset + 2] = (byte) (x + y);
+            }
+        }
+        Codec plain = new CanonicalHuffman();
+        Codec filtered = Pipeline.of(new PredictiveFilter(), new CanonicalHuffman());
+        byte[] compressed = filtered.compress(raster).getData();
+        Assertions.assertTrue(compressed.length * 4 < plain.compress(raster).getData().length);
+        Assertions.assertArrayEquals(data, filtered.restoreRaster(compressed).getData());
+    }
+}
@@ -0,0 +1,118 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Random;
+
+public class RLETest {
+
+    @Test
+    public void endToEndTest() {
+        Random random = new Random();
+        for (RLE.Mode mode : RLE.Mode.values()) {
+            RLE rle = new RLE(mode);
+            for (int pixels = 0; pixels < 2000; pixels += 7) {
+                byte[] data = new byte[pixels * 3];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = (byte) random.nextInt(i % 300 < 150 ? 2 : 256);
+                }
+                Assertions.assertArrayEquals(data, rle.restore(rle.compress(data).getData()), mode.toString());
+            }
+        }
+    }
+
+    @Test
+    public void partialPixelTest() {
+        Random random = new Random();
+        for (RLE.Mode mode : new RLE.Mode[]{RLE.Mode.AUTO, RLE.Mode.CHANNEL}) {
+            RLE rle = new RLE(mode);
+            for (int length = 1; length < 200; length += 4) {
+                byte[] data = new byte[length];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = (byte) random.nextInt(i < length / 2 ? 2 : 256);
+                }
+                byte[] compressed = rle.compress(data).getData();
+                Assertions.assertArrayEquals(data, rle.restore(compressed), mode.toString());
+            }
+        }
+    }
+
+    @Test
+    public void longRunTest() {
+        byte[] data = new byte[3 * 3_000_000];
+        for (int i = 0; i < data.length; i += 3) {
+            data[i] = 10;
+            data[i + 1] = 20;
+            data[i + 2] = 30;
+        }
+        RLE rle = new RLE();
+        CodecResult result = rle.compress(data);
+        byte[] compressed = result.getData();
+        Assertions.assertTrue(compressed.length < 16);
+        Assertions.assertArrayEquals(data, rle.restore(compressed));
+        Assertions.assertEquals(RLE.Mode.PIXEL, result.getStats().get("mode"));
+        Assertions.assertEquals(1, result.getStats().get("same count"));
+    }
+
+    @Test
+    public void autoModeTest() {
+        Random random = new Random();
+        byte[] data = new byte[3 * 100000];
+        for (int i = 0; i < data.length; i += 3) {
+            data[i] = (byte) random.nextInt();
+        }
+        RLE rle = new RLE();
+        CodecResult result = rle.compress(data);
+        byte[] compressed = result.getData();
+        Assertions.assertEquals(RLE.Mode.CHANNEL, result.getStats().get("mode"));
+        Assertions.assertTrue(compressed.length < new RLE(RLE.Mode.PIXEL).compress(data).getData().length);
+        Assertions.assertArrayEquals(data, rle.restore(compressed));
+    }
+
+    @Test
+    public void pixelModeLengthTest() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> new RLE(RLE.Mode.PIXEL).compress(new byte[4]).getData());
+    }
+
+    @Test
+    public void corruptPixelsTest() {
+        RLE rle = new RLE(RLE.Mode.PIXEL);
+        byte[] compressed = rle.compress(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9}).getData();
+        Assertions.assertThrows(IllegalStateException.class, () -> rle.restore(Arrays.copyOf(compressed, compressed.length - 1)));
+        byte pixel = (byte) RLE.Mode.PIXEL.ordinal();
+        Assertions.assertThrows(IllegalStateException.class, () -> rle.restore(new byte[]{pixel, 1, (5 - 1) << 1 | 1, 1, 2, 3}));
+        Assertions.assertThrows(IllegalStateException.class, () -> rle.restore(new byte[]{pixel, 2, (1 - 1) << 1 | 1, 1, 2, 3}));
+    }
+
+    @Test
+    public void varintTest() {
+        byte[] data = new byte[5];
+        for (int value : new int[]{0, 1, 127, 128, 16383, 16384, 3_000_000, Integer.MAX_VALUE}) {
+            int length = RLE.writeVarint(data, 0, value);
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            Assertions.assertEquals(value, RLE.readVarint(buffer));
+            Assertions.assertEquals(length, buffer.position());
+        }
+    }
+
+    @Test
+    public void restoreIntoBufferTest() {
+        Random random = new Random();
+        byte[] data = new byte[3 * 50000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) random.nextInt(i % 3 == 0 ? 256 : 2);
+        }
+        for (RLE.Mode mode : RLE.Mode.values()) {
+            RLE rle = new RLE(mode);
+            byte[] compressed = rle.compress(data).getData();
+            byte[] restored = new byte[data.length];
+            rle.restore(compressed, restored);
+            Assertions.assertArrayEquals(data, restored);
+            Assertions.assertThrows(IllegalStateException.class, () -> rle.restore(compressed, new byte[data.length + 3]));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class RasterFilesTest {
+
+    @Test
+    public void bmp24Test() throws IOException {
+        // 3x2 image, rows are padded to 12 bytes and stored bottom-up
+        ByteBuffer bmp = bmpHeader(3, 2, 24, 0, 0, 12 * 2);
+        bmp.put(new byte[]{6, 5, 4, 9, 8, 7, 12, 11, 10, 0, 0, 0});
+        bmp.put(new byte[]{3, 2, 1, 6, 5, 4, 9, 8, 7, 0, 0, 0});
+        Raster raster = RasterFiles.read(bmp.flip());
+        Assertions.assertEquals(3, raster.getWidth());
+        Assertions.assertEquals(2, raster.getHeight());
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 4, 5, 6, 7, 8, 9, 10, 11, 12}, raster.getData());
+    }
+
+    @Test
+    public void bmpPaletteTest() throws IOException {
+        // 10x1 image of 1 bit pixels 1011000001
+        ByteBuffer bmp = bmpHeader(10, 1, 1, 0, 2, 4);
+        bmp.put(new byte[]{0, 0, 0, 0, 30, 20, 10, 0});
+        bmp.put(new byte[]{(byte) 0b10110000, 0b01000000, 0, 0});
+        Raster raster = RasterFiles.read(bmp.flip());
+        byte[] expected = new byte[30];
+        for (int x : new int[]{0, 2, 3, 9}) {
+            expected[x * 3] = 10;
+            expected[x * 3 + 1] = 20;
+            expected[x * 3 + 2] = 30;
+        }
+        Assertions.assertArrayEquals(expected, raster.getData());
+    }
+
+    @Test
+    public void bmpBitFieldsTest() throws IOException {
+        // 2x2 top-down image with pixels 0x00RRGGBB stored as RRGGBB00
+        ByteBuffer bmp = bmpHeader(2, -2, 32, 3, 0, 16);
+        bmp.putInt(0xFF000000).putInt(0x00FF0000).putInt(0x0000FF00);
+        bmp.putInt(0x01020300).putInt(0x04050600).putInt(0x07080900).putInt(0x0A0B0C00);
+        Raster raster = RasterFiles.read(bmp.flip());
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12}, raster.getData());
+    }
+
+    @Test
+    public void ppmTest() throws IOException {
+        ByteBuffer ppm = ByteBuffer.allocate(100);
+        ppm.put("P6\n# comment\n2 1\n255\n".getBytes(StandardCharsets.US_ASCII)).put(new byte[]{1, 2, 3, 4, 5, 6});
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6}, RasterFiles.read(ppm.flip()).getData());
+        ByteBuffer pgm = ByteBuffer.allocate(100);
+        pgm.put("P5 2 1 255 ".getBytes(StandardCharsets.US_ASCII)).put(new byte[]{7, 8});
+        Assertions.assertArrayEquals(new byte[]{7, 7, 7, 8, 8, 8}, RasterFiles.read(pgm.flip()).getData());
+        ByteBuffer ppm15 = ByteBuffer.allocate(100);
+        ppm15.put("P6 2 1 15 ".getBytes(StandardCharsets.US_ASCII)).put(new byte[]{0, 1, 7, 8, 14, 15});
+        Assertions.assertArrayEquals(new byte[]{0, 17, 119, (byte) 136, (byte) 238, (byte) 255}, RasterFiles.read(ppm15.flip()).getData());
+        ByteBuffer pgm100 = ByteBuffer.allocate(100);
+        pgm100.put("P5 2 1 100 ".getBytes(StandardCharsets.US_ASCII)).put(new byte[]{50, 100});
+        Assertions.assertArrayEquals(new byte[]{(byte) 128, (byte) 128, (byte) 128, (byte) 255, (byte) 255, (byte) 255}, RasterFiles.read(pgm100.flip()).getData());
+        ByteBuffer truncated = ByteBuffer.wrap("P6 2 2 255 ".getBytes(StandardCharsets.US_ASCII));
+        Assertions.assertThrows(IOException.class, () -> RasterFiles.read(truncated));
+    }
+
+    @Test
+    public void corpusTest() throws IOException, URISyntaxException {
+        Path directory = Paths.get(getClass().getClassLoader().getResource("img").toURI());
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.toString().endsWith(".bmp")).collect(Collectors.toList());
+        }
+        Assertions.assertFalse(files.isEmpty());
+        Codec codec = new RLE();
+        for (Path file : files) {
+            ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+            Raster raster = RasterFiles.read(file);
+            Assertions.assertEquals(header.getInt(18), raster.getWidth(), file.toString());
+            Assertions.assertEquals(header.getInt(22), raster.getHeight(), file.toString());
+            Assertions.assertArrayEquals(raster.getData(), codec.restoreRaster(codec.compress(raster).getData()).getData());
+        }
+    }
+
+    private static ByteBuffer bmpHeader(int width, int height, int bitsPerPixel, int compression, int colors, int pixelsSize) {
+        int headerSize = 14 + 40 + (compression == 3 ? 12 : 0) + colors * 4;
+        ByteBuffer buffer = ByteBuffer.allocate(headerSize + pixelsSize).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 'B').put((byte) 'M').putInt(headerSize + pixelsSize).putInt(0).putInt(headerSize);
+        buffer.putInt(40).putInt(width).putInt(height).putShort((short) 1).putShort((short) bitsPerPixel)
+                .putInt(compression).putInt(pixelsSize).putInt(2835).putInt(2835).putInt(colors).putInt(0);
+        return buffer;
+    }
+}
@@ -0,0 +1,103 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class StripedContainerTest {
+
+    @Test
+    public void endToEndTest() {
+        Random random = new Random();
+        StripedContainer container = new StripedContainer(new LZW());
+        for (int length : new int[]{0, 1, 1000, StripedContainer.DEFAULT_STRIP_SIZE, 3 * StripedContainer.DEFAULT_STRIP_SIZE + 7}) {
+            byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = (byte) random.nextInt(16);
+            }
+            CodecResult result = container.compress(data);
+            Assertions.assertEquals((length + StripedContainer.DEFAULT_STRIP_SIZE - 1) / StripedContainer.DEFAULT_STRIP_SIZE,
+                    result.getStats().get("strips count"));
+            Assertions.assertArrayEquals(data, container.restore(result.getData()));
+        }
+    }
+
+    @Test
+    public void rasterTest() {
+        Raster raster = new Raster(123, 301, Raster.RGB);
+        byte[] data = raster.getData();
+        Random random = new Random();
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 1000 < 300 ? random.nextInt() : i / raster.getRowSize());
+        }
+        StripedContainer container = new StripedContainer(new RLE(), 16);
+        CodecResult result = container.compress(raster);
+        Assertions.assertEquals(19, result.getStats().get("strips count"));
+        Raster restored = container.restoreRaster(result.getData());
+        Assertions.assertEquals(raster.getWidth(), restored.getWidth());
+        Assertions.assertEquals(raster.getHeight(), restored.getHeight());
+        Assertions.assertArrayEquals(data, restored.getData());
+    }
+
+    @Test
+    public void stripWidthTest() {
+        List<Integer> widths = new CopyOnWriteArrayList<>();
+        Codec codec = new NoOp() {
+            @Override
+            public CodecResult compress(byte[] data, int width) {
+                widths.add(width);
+                return compress(data);
+            }
+        };
+        StripedContainer container = new StripedContainer(codec, 4);
+        byte[] data = new byte[10 * 11 * 3];
+        container.compress(data, 10);
+        Assertions.assertEquals(List.of(10, 10, 10), widths);
+        widths.clear();
+        Assertions.assertArrayEquals(data, container.restore(container.compress(data).getData()));
+        Assertions.assertTrue(widths.isEmpty());
+    }
+
+    @Test
+    public void filterRowsTest() {
+        List<Object> rows = new CopyOnWriteArrayList<>();
+        Codec filter = new PredictiveFilter() {
+            @Override
+            public CodecResult compress(byte[] data, int width) {
+                CodecResult result = super.compress(data, width);
+                rows.add(result.getStats().get("rows"));
+                return result;
+            }
+        };
+        StripedContainer container = new StripedContainer(filter, 4);
+        byte[] data = new byte[10 * 11 * 3];
+        Assertions.assertArrayEquals(data, container.restore(container.compress(data, 10).getData()));
+        rows.sort(Comparator.comparing(Integer.class::cast));
+        Assertions.assertEquals(List.of(3, 4, 4), rows);
+        rows.clear();
+        byte[] plain = new byte[2 * StripedContainer.DEFAULT_STRIP_SIZE + 3];
+        Assertions.assertArrayEquals(plain, container.restore(container.compress(plain).getData()));
+        Assertions.assertEquals(List.of(1, 1, 1), rows);
+    }
+
+    @Test
+    public void invalidIndexTest() {
+        StripedContainer container = new StripedContainer(new LZW());
+        byte[] compressed = container.compress(new byte[1000]).getData();
+        Assertions.assertThrows(IllegalStateException.class, () -> container.restore(Arrays.copyOf(compressed, 8)));
+        for (int[] header : new int[][]{{-1, 1000, 1}, {1000, 0, 1}, {1000, 1000, 2}, {1000, 1, 1000}}) {
+            byte[] corrupted = Arrays.copyOf(compressed, compressed.length);
+            ByteBuffer.wrap(corrupted).putInt(header[0]).putInt(header[1]).putInt(header[2]);
+            Assertions.assertThrows(IllegalStateException.class, () -> container.restore(corrupted));
+        }
+        byte[] corrupted = Arrays.copyOf(compressed, compressed.length);
+        ByteBuffer.wrap(corrupted).putInt(3 * Integer.BYTES, compressed.length);
+        Assertions.assertThrows(IllegalStateException.class, () -> container.restore(corrupted));
+    }
+}
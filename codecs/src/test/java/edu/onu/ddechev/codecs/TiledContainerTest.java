@@ -0,0 +1,128 @@
+package edu.onu.ddechev.codecs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.InvalidParameterException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class TiledContainerTest {
+
+    @Test
+    public void endToEndTest() {
+        Random random = new Random();
+        TiledContainer container = new TiledContainer(new RLE(), 16);
+        for (int width = 1; width < 70; width += 17) {
+            for (int height = 0; height < 40; height += 13) {
+                byte[] data = new byte[width * height * 3];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = (byte) random.nextInt(i % 100 < 50 ? 2 : 256);
+                }
+                Assertions.assertArrayEquals(data, container.restore(container.compress(data, width).getData()));
+            }
+        }
+        Assertions.assertThrows(InvalidParameterException.class, () -> container.compress(new byte[4]));
+    }
+
+    @Test
+    public void regionTest() throws IOException {
+        Raster raster = randomRaster(300, 200);
+        TiledContainer container = new TiledContainer(new LZW(), 64);
+        CodecResult result = container.compress(raster);
+        Assertions.assertEquals(20, result.getStats().get("tiles count"));
+        Path file = Files.createTempFile("tiled", ".bin");
+        try {
+            Files.write(file, result.getData());
+            try (FileChannel channel = FileChannel.open(file)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                assertRegion(raster, container.restoreRegion(buffer, 0, 0, 300, 200), 0, 0);
+                assertRegion(raster, container.restoreRegion(buffer, 60, 100, 70, 33), 60, 100);
+                assertRegion(raster, container.restoreRegion(buffer, 299, 199, 1, 1), 299, 199);
+                Assertions.assertThrows(InvalidParameterException.class, () -> container.restoreRegion(buffer, 250, 0, 51, 10));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void tileWidthTest() {
+        List<Integer> widths = new CopyOnWriteArrayList<>();
+        Codec codec = new NoOp() {
+            @Override
+            public CodecResult compress(byte[] data, int width) {
+                widths.add(width);
+                return compress(data);
+            }
+        };
+        TiledContainer container = new TiledContainer(codec, 16);
+        byte[] data = new byte[40 * 10 * 3];
+        Assertions.assertArrayEquals(data, container.restore(container.compress(data, 40).getData()));
+        widths.sort(Integer::compare);
+        Assertions.assertEquals(List.of(8, 16, 16), widths);
+    }
+
+    @Test
+    public void filterRowsTest() {
+        List<Object> rows = new CopyOnWriteArrayList<>();
+        Codec filter = new PredictiveFilter() {
+            @Override
+            public CodecResult compress(byte[] data, int width) {
+                CodecResult result = super.compress(data, width);
+                rows.add(result.getStats().get("rows"));
+                return result;
+            }
+        };
+        TiledContainer container = new TiledContainer(filter, 16);
+        Raster raster = randomRaster(40, 20);
+        Assertions.assertArrayEquals(raster.getData(), container.restoreRaster(container.compress(raster).getData()).getData());
+        rows.sort(Comparator.comparing(Integer.class::cast));
+        Assertions.assertEquals(List.of(4, 4, 4, 16, 16, 16), rows);
+    }
+
+    @Test
+    public void invalidIndexTest() {
+        TiledContainer container = new TiledContainer(new RLE(), 16);
+        byte[] compressed = container.compress(randomRaster(40, 30)).getData();
+        ByteBuffer buffer = ByteBuffer.wrap(compressed);
+        buffer.putInt(0, 41);
+        Assertions.assertThrows(IllegalStateException.class, () -> container.restoreRegion(compressed, 0, 0, 1, 1));
+        buffer.putInt(0, 40);
+        Assertions.assertEquals(1, container.restoreRegion(compressed, 0, 0, 1, 1).getWidth());
+        for (int[] index : new int[][]{{40, 30, 0}, {40, 30, -16}, {Integer.MAX_VALUE, Integer.MAX_VALUE, 1}, {-1, 30, 16}}) {
+            buffer.putInt(Codec.HEADER_SIZE, index[0]).putInt(Codec.HEADER_SIZE + 4, index[1]).putInt(Codec.HEADER_SIZE + 8, index[2]);
+            Assertions.assertThrows(IllegalStateException.class, () -> container.restoreRegion(compressed, 0, 0, 1, 1));
+        }
+        byte[] plain = container.compress(new byte[40 * 30 * 3], 40).getData();
+        ByteBuffer.wrap(plain).putInt(3 * Integer.BYTES, plain.length);
+        Assertions.assertThrows(IllegalStateException.class, () -> container.restore(plain));
+    }
+
+    private static Raster randomRaster(int width, int height) {
+        Raster raster = new Raster(width, height, Raster.RGB);
+        byte[] data = raster.getData();
+        Random random = new Random();
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 21 < 3 ? random.nextInt() : i / raster.getRowSize());
+        }
+        return raster;
+    }
+
+    private static void assertRegion(Raster raster, Raster region, int x, int y) {
+        for (int row = 0; row < region.getHeight(); row++) {
+            for (int column = 0; column < region.getRowSize(); column++) {
+                Assertions.assertEquals(raster.getData()[(y + row) * raster.getRowSize() + x * 3 + column],
+                        region.getData()[row * region.getRowSize() + column]);
+            }
+        }
+    }
+}